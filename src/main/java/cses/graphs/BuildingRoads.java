@@ -1,21 +1,17 @@
 package cses.graphs;
 
+import graph.unionFind.UnionFind;
+
 import java.util.*;
 
 public class BuildingRoads {
 
-    public int[] parent;
-    public int[] size;
+    UnionFind dsu;
     int n;
 
     public BuildingRoads(int n){
         this.n = n;
-        this.parent = new int[n+1];
-        for(int i=0; i<=n; i++){
-            parent[i] = i;
-        }
-        this.size = new int[n+1];
-        Arrays.fill(size, 1);
+        this.dsu = new UnionFind(n+1); // cities are numbered 1..n
     }
 
     public static void main(String[] args) {
@@ -58,21 +54,11 @@ public class BuildingRoads {
     }
 
     public void union(int u, int v){
-        u = findParent(u);
-        v = findParent(v);
-        if(u == v) return;
-        if(size[u] >= size[v]){
-            parent[v] = u;
-            size[u] += size[v];
-        } else {
-            parent[u] = v;
-            size[v] += size[u];
-        }
+        dsu.union(u, v);
     }
 
     public int findParent(int node){
-        if(node == parent[node]) return node;
-        return parent[node] = findParent(parent[node]);
+        return dsu.find(node);
     }
 
 
@@ -0,0 +1,98 @@
+package graph;
+
+import java.util.Arrays;
+
+/**
+ * Binary min-heap over the ids 0..n-1 with a position index, so an id is stored at most once and its key can be
+ * decreased in place (decrease-key). Heap size is bounded by n, so every operation is O(log n).
+ * Shared by the decrease-key variants of Dijkstra (DynamicShortestPath) and Prim's (Prims.primsAlgoIndexedHeap).
+ */
+public class IndexedMinHeap {
+
+    private final int[] heap;     // heap[i] = id stored at slot i
+    private final int[] position; // position[id] = slot of id, or -1 if absent
+    private final long[] key;
+    private int size;
+
+    /**
+     * @param n the number of ids, which must lie in 0..n-1
+     */
+    public IndexedMinHeap(int n) {
+        heap = new int[n];
+        position = new int[n];
+        key = new long[n];
+        Arrays.fill(position, -1);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(int id) {
+        return position[id] != -1;
+    }
+
+    /**
+     * Inserts an id that is not in the heap.
+     */
+    public void push(int id, long k) {
+        key[id] = k;
+        heap[size] = id;
+        position[id] = size;
+        siftUp(size++);
+    }
+
+    /**
+     * Inserts the id, or lowers its key if it is already in the heap; a larger key is ignored.
+     */
+    public void pushOrDecrease(int id, long k) {
+        if (position[id] == -1) {
+            push(id, k);
+        } else if (k < key[id]) {
+            key[id] = k;
+            siftUp(position[id]);
+        }
+    }
+
+    /**
+     * Removes and returns the id with the smallest key.
+     */
+    public int pop() {
+        int top = heap[0];
+        position[top] = -1;
+        if (--size > 0) {
+            heap[0] = heap[size];
+            position[heap[0]] = 0;
+            siftDown(0);
+        }
+        return top;
+    }
+
+    private void siftUp(int i) {
+        int id = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (key[heap[parent]] <= key[id]) break;
+            heap[i] = heap[parent];
+            position[heap[i]] = i;
+            i = parent;
+        }
+        heap[i] = id;
+        position[id] = i;
+    }
+
+    private void siftDown(int i) {
+        int id = heap[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) break;
+            if (child + 1 < size && key[heap[child + 1]] < key[heap[child]]) child++;
+            if (key[heap[child]] >= key[id]) break;
+            heap[i] = heap[child];
+            position[heap[i]] = i;
+            i = child;
+        }
+        heap[i] = id;
+        position[id] = i;
+    }
+}
@@ -40,16 +40,27 @@ public class CheckBipartiteGraphBFS {
     }
 
     private boolean checkBipartite(ArrayList<ArrayList<Integer>> adj, int totalNodes) {
+        return bipartition(adj, totalNodes) != null;
+    }
+
+    /**
+     * 2-colors the graph with BFS and returns the coloring, so callers (e.g. HopcroftKarp) can use the two sides.
+     *
+     * @param adj the adjacency list representing the graph
+     * @param totalNodes the total number of nodes in the graph
+     * @return color[v] in {0, 1} such that every edge joins different colors, or null if the graph is not bipartite
+     */
+    public int[] bipartition(ArrayList<ArrayList<Integer>> adj, int totalNodes) {
         int[] color = new int[totalNodes];
         Arrays.fill(color, -1);
         // A graph can have multiple components
         // do traversal on all components of Graph.
         for (int i = 0; i < totalNodes; i++) {
             if(color[i] == -1) {
-                if(!checkBipartiteBfs(i, adj, color)) return false;
+                if(!checkBipartiteBfs(i, adj, color)) return null;
             }
         }
-        return true;
+        return color;
     }
 
     private boolean checkBipartiteBfs(int startNode, ArrayList<ArrayList<Integer>> adj, int[] color) {
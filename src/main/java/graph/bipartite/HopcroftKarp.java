@@ -0,0 +1,327 @@
+package graph.bipartite;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+
+public class HopcroftKarp {
+
+    private static final int NONE = -1;
+    private static final int INF = Integer.MAX_VALUE;
+
+    private final int leftCount;
+    private final int rightCount;
+    private final int[] offsets;     // CSR: the right neighbors of left l are targets[offsets[l]..offsets[l+1])
+    private final int[] targets;
+    private final int[] leftVertex;  // graph vertex id of every left / right index
+    private final int[] rightVertex;
+    private final int totalNodes;
+
+    private final int[] matchLeft;   // right index matched to every left index, or NONE
+    private final int[] matchRight;  // left index matched to every right index, or NONE
+    private int matchingSize = -1;   // -1 until the matching is computed
+
+    public static void main(String[] args) {
+        // Workers 0..3 and jobs 4..7; an edge means the worker can do the job
+        int totalNodes = 8;
+        ArrayList<ArrayList<Integer>> adj = new ArrayList<>();
+        for (int i = 0; i < totalNodes; i++)
+            adj.add(new ArrayList<>());
+        int[][] edges = {{0, 4}, {0, 5}, {1, 4}, {2, 5}, {2, 6}, {3, 6}, {3, 7}};
+        for (int[] edge : edges) {
+            adj.get(edge[0]).add(edge[1]);
+            adj.get(edge[1]).add(edge[0]);
+        }
+
+        HopcroftKarp obj = HopcroftKarp.fromGraph(totalNodes, adj);
+        System.out.println("Maximum matching: " + obj.maximumMatching() + ", mates: " + Arrays.toString(obj.mates()));
+        System.out.println("Minimum vertex cover: " + obj.minimumVertexCover());
+    }
+
+    /**
+     * Builds the engine from an undirected graph in the adjacency-list layout of `CheckBipartiteGraphBFS`.
+     * The two sides come from `CheckBipartiteGraphBFS.bipartition`: color 0 is the left side, color 1 the right side.
+     * Results use the graph's own vertex ids.
+     *
+     * @param totalNodes the total number of nodes in the graph
+     * @param adj the adjacency list representing the graph, every edge listed from both ends
+     * @return the engine
+     * @throws IllegalArgumentException if the graph is not bipartite
+     */
+    public static HopcroftKarp fromGraph(int totalNodes, ArrayList<ArrayList<Integer>> adj) {
+        int[] color = new CheckBipartiteGraphBFS().bipartition(adj, totalNodes);
+        if (color == null) {
+            throw new IllegalArgumentException("Graph is not bipartite");
+        }
+
+        int[] index = new int[totalNodes];
+        int leftCount = 0, rightCount = 0;
+        for (int x = 0; x < totalNodes; x++) {
+            index[x] = color[x] == 0 ? leftCount++ : rightCount++;
+        }
+        int[] leftVertex = new int[leftCount];
+        int[] rightVertex = new int[rightCount];
+        for (int x = 0; x < totalNodes; x++) {
+            if (color[x] == 0) leftVertex[index[x]] = x;
+            else rightVertex[index[x]] = x;
+        }
+
+        int edges = 0;
+        for (int l = 0; l < leftCount; l++) {
+            edges += adj.get(leftVertex[l]).size();
+        }
+        int[] left = new int[edges];
+        int[] right = new int[edges];
+        int e = 0;
+        for (int l = 0; l < leftCount; l++) {
+            for (int y : adj.get(leftVertex[l])) {
+                left[e] = l;
+                right[e++] = index[y];
+            }
+        }
+        return new HopcroftKarp(leftCount, rightCount, left, right, leftVertex, rightVertex, totalNodes);
+    }
+
+    /**
+     * Builds the engine from an edge list whose sides are already known: edge e joins left[e] (in 0..leftCount-1)
+     * and right[e] (in 0..rightCount-1). In mates() and minimumVertexCover(), left index l is vertex l and right
+     * index r is vertex leftCount + r.
+     *
+     * @param leftCount the number of left vertices
+     * @param rightCount the number of right vertices
+     * @param left the left endpoint of each edge
+     * @param right the right endpoint of each edge
+     */
+    public HopcroftKarp(int leftCount, int rightCount, int[] left, int[] right) {
+        this(leftCount, rightCount, left, right, identity(0, leftCount), identity(leftCount, rightCount), leftCount + rightCount);
+    }
+
+    private HopcroftKarp(int leftCount, int rightCount, int[] left, int[] right, int[] leftVertex, int[] rightVertex, int totalNodes) {
+        this.leftCount = leftCount;
+        this.rightCount = rightCount;
+        this.leftVertex = leftVertex;
+        this.rightVertex = rightVertex;
+        this.totalNodes = totalNodes;
+        offsets = new int[leftCount + 1];
+        for (int l : left) {
+            offsets[l + 1]++;
+        }
+        for (int l = 0; l < leftCount; l++) {
+            offsets[l + 1] += offsets[l];
+        }
+        targets = new int[left.length];
+        int[] fill = Arrays.copyOf(offsets, leftCount);
+        for (int e = 0; e < left.length; e++) {
+            targets[fill[left[e]]++] = right[e];
+        }
+        matchLeft = new int[leftCount];
+        matchRight = new int[rightCount];
+    }
+
+    /**
+     * Computes a maximum matching with the Hopcroft–Karp algorithm.
+     *
+     * Overview:
+     * A matching pairs left vertices (workers) with right vertices (jobs) along edges, each vertex at most once.
+     * It can be grown along an augmenting path: a path from a free left vertex to a free right vertex that alternates
+     * between non-matching and matching edges. Flipping the path adds one pair. Augmenting one path at a time (Kuhn's
+     * algorithm) costs O(V * E); Hopcroft–Karp augments a maximal set of shortest vertex-disjoint paths per phase,
+     * and needs only O(√V) phases.
+     *
+     * Intuition:
+     * 1. BFS from all free left vertices at once builds layers: dist[l] is the length of the shortest alternating
+     *    path reaching l. The BFS stops at the first layer that reaches a free right vertex.
+     * 2. DFS from every free left vertex, only following edges to the next layer (dist[m] == dist[l] + 1),
+     *    finds vertex-disjoint shortest augmenting paths. A left vertex whose search fails is removed from the layers
+     *    (dist = INF), so no edge is scanned twice in a phase.
+     * The DFS is iterative: every left vertex keeps a cursor into its edge list, and the stack remembers which right
+     * vertex each level went through, so a found path can be flipped directly from the stack.
+     *
+     * Data Structures Used:
+     * - offsets[] / targets[]: CSR adjacency from left to right
+     * - matchLeft[], matchRight[]: the matching; dist[]: BFS layers; cursor[]: per-vertex edge cursor
+     * - a greedy matching to start from, which usually leaves only a few phases to run
+     *
+     * Time Complexity: O(E √V).
+     * Space Complexity: O(V + E).
+     *
+     * @return the size of a maximum matching
+     */
+    public int maximumMatching() {
+        if (matchingSize != -1) return matchingSize;
+        Arrays.fill(matchLeft, NONE);
+        Arrays.fill(matchRight, NONE);
+        int size = 0;
+
+        // Greedy start
+        for (int l = 0; l < leftCount; l++) {
+            for (int i = offsets[l]; i < offsets[l + 1]; i++) {
+                int r = targets[i];
+                if (matchRight[r] == NONE) {
+                    matchLeft[l] = r;
+                    matchRight[r] = l;
+                    size++;
+                    break;
+                }
+            }
+        }
+
+        int[] dist = new int[leftCount];
+        int[] queue = new int[leftCount];
+        int[] cursor = new int[leftCount];
+        int[] stack = new int[leftCount];
+        int[] via = new int[leftCount];
+        while (layer(dist, queue)) {
+            for (int l = 0; l < leftCount; l++) {
+                cursor[l] = offsets[l];
+            }
+            for (int l = 0; l < leftCount; l++) {
+                if (matchLeft[l] == NONE && augment(l, dist, cursor, stack, via)) size++;
+            }
+        }
+        matchingSize = size;
+        return size;
+    }
+
+    /**
+     * @return for every graph vertex, the vertex it is matched to, or -1
+     */
+    public int[] mates() {
+        maximumMatching();
+        int[] mate = new int[totalNodes];
+        Arrays.fill(mate, NONE);
+        for (int l = 0; l < leftCount; l++) {
+            if (matchLeft[l] == NONE) continue;
+            mate[leftVertex[l]] = rightVertex[matchLeft[l]];
+            mate[rightVertex[matchLeft[l]]] = leftVertex[l];
+        }
+        return mate;
+    }
+
+    /**
+     * @return the right index matched to every left index, or -1
+     */
+    public int[] matchOfLeft() {
+        maximumMatching();
+        return Arrays.copyOf(matchLeft, leftCount);
+    }
+
+    /**
+     * Computes a minimum vertex cover from the maximum matching with König's theorem.
+     *
+     * Let Z be the vertices reachable from free left vertices by alternating paths (left to right over non-matching
+     * edges, right to left over matching edges). Then (left \ Z) ∪ (right ∩ Z) covers every edge and has exactly one
+     * vertex per matching edge, so it is minimum.
+     *
+     * Time Complexity: O(E √V) for the matching, plus O(V + E).
+     *
+     * @return the vertices of a minimum vertex cover, as graph vertex ids
+     */
+    public BitSet minimumVertexCover() {
+        maximumMatching();
+        boolean[] leftVisited = new boolean[leftCount];
+        boolean[] rightVisited = new boolean[rightCount];
+        int[] queue = new int[leftCount];
+        int head = 0, tail = 0;
+        for (int l = 0; l < leftCount; l++) {
+            if (matchLeft[l] == NONE) {
+                leftVisited[l] = true;
+                queue[tail++] = l;
+            }
+        }
+        while (head < tail) {
+            int l = queue[head++];
+            for (int i = offsets[l]; i < offsets[l + 1]; i++) {
+                int r = targets[i];
+                if (rightVisited[r] || matchLeft[l] == r) continue;
+                rightVisited[r] = true;
+                int m = matchRight[r];
+                if (m != NONE && !leftVisited[m]) {
+                    leftVisited[m] = true;
+                    queue[tail++] = m;
+                }
+            }
+        }
+
+        BitSet cover = new BitSet(totalNodes);
+        for (int l = 0; l < leftCount; l++) {
+            if (!leftVisited[l]) cover.set(leftVertex[l]);
+        }
+        for (int r = 0; r < rightCount; r++) {
+            if (rightVisited[r]) cover.set(rightVertex[r]);
+        }
+        return cover;
+    }
+
+    /**
+     * BFS from all free left vertices over alternating paths.
+     *
+     * @return true if some free right vertex is reachable, i.e. an augmenting path exists
+     */
+    private boolean layer(int[] dist, int[] queue) {
+        int head = 0, tail = 0;
+        for (int l = 0; l < leftCount; l++) {
+            if (matchLeft[l] == NONE) {
+                dist[l] = 0;
+                queue[tail++] = l;
+            } else {
+                dist[l] = INF;
+            }
+        }
+        int limit = INF; // layer of the shortest augmenting paths
+        while (head < tail) {
+            int l = queue[head++];
+            if (dist[l] >= limit) break;
+            for (int i = offsets[l]; i < offsets[l + 1]; i++) {
+                int m = matchRight[targets[i]];
+                if (m == NONE) {
+                    limit = dist[l] + 1;
+                } else if (dist[m] == INF) {
+                    dist[m] = dist[l] + 1;
+                    queue[tail++] = m;
+                }
+            }
+        }
+        return limit != INF;
+    }
+
+    /**
+     * Iterative DFS along the BFS layers from the free left vertex root. Flips the path if it reaches a free right vertex.
+     */
+    private boolean augment(int root, int[] dist, int[] cursor, int[] stack, int[] via) {
+        int top = 0;
+        stack[top++] = root;
+        while (top > 0) {
+            int l = stack[top - 1];
+            if (cursor[l] == offsets[l + 1]) {
+                dist[l] = INF; // dead end for the rest of this phase
+                top--;
+                continue;
+            }
+            int r = targets[cursor[l]++];
+            int m = matchRight[r];
+            if (m == NONE) {
+                // Flip the alternating path root -> ... -> l -> r
+                via[top - 1] = r;
+                for (int i = 0; i < top; i++) {
+                    matchLeft[stack[i]] = via[i];
+                    matchRight[via[i]] = stack[i];
+                }
+                return true;
+            }
+            if (dist[m] == dist[l] + 1) {
+                via[top - 1] = r;
+                stack[top++] = m;
+            }
+        }
+        return false;
+    }
+
+    private static int[] identity(int from, int count) {
+        int[] result = new int[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = from + i;
+        }
+        return result;
+    }
+}
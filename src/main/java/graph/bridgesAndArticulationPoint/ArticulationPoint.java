@@ -5,6 +5,8 @@ import java.util.Arrays;
 
 public class ArticulationPoint {
 
+    private int timer; // DFS discovery clock, shared by the whole traversal
+
     public static void main(String[] args) {
         int totalNodes = 6;
         ArrayList<ArrayList<Integer>> adj = new ArrayList<>();
@@ -104,11 +106,12 @@ public class ArticulationPoint {
 
         // Initialize all nodes as unvisited
         Arrays.fill(visited, false);
+        timer = 1;
 
         // Perform DFS from each unvisited node
         for (int i = 0; i < totalNodes; i++) {
             if (!visited[i]) {
-                dfs(i, -1, adj, visited, discoveryTime, lowestReachable, 1, AP);
+                dfs(i, -1, adj, visited, discoveryTime, lowestReachable, AP);
             }
         }
 
@@ -130,10 +133,9 @@ public class ArticulationPoint {
      * @param visited the visited array
      * @param discoveryTime the discovery time array
      * @param lowestReachable the lowest discovery time array
-     * @param timer the current time step
      * @param AP the articulation points array
      */
-    private void dfs(int node, int parent, ArrayList<ArrayList<Integer>> adj, boolean[] visited, int[] discoveryTime, int[] lowestReachable, int timer, boolean[] AP) {
+    private void dfs(int node, int parent, ArrayList<ArrayList<Integer>> adj, boolean[] visited, int[] discoveryTime, int[] lowestReachable, boolean[] AP) {
         int dfsChildrenCount = 0; // to determine if root node is an articulation point or not
         visited[node] = true; // mark current node as visited
         discoveryTime[node] = lowestReachable[node] = timer++; // Initialize discovery time and lowest reachable value
@@ -145,7 +147,7 @@ public class ArticulationPoint {
             // Check if adjacent node is visited or not
             if (!visited[adjNode]) {
                 // Dfs on adjacent node
-                dfs(adjNode, node, adj, visited, discoveryTime, lowestReachable, timer, AP);
+                dfs(adjNode, node, adj, visited, discoveryTime, lowestReachable, AP);
 
                 // Increment for the new child dfs subtree
                 dfsChildrenCount++;
@@ -159,15 +161,14 @@ public class ArticulationPoint {
                     AP[node] = true;
                 }
             } else {
-                // Update the lowest reachable value of the current node for parent function calls
-                lowestReachable[node] = Math.min(lowestReachable[node], lowestReachable[adjNode]);
+                // Back edge: only the discovery time of adjNode is reachable through it
+                lowestReachable[node] = Math.min(lowestReachable[node], discoveryTime[adjNode]);
             }
         }
 
         // If node is root of DFS tree and has two or more children
         if (parent == -1 && dfsChildrenCount > 1) {
             AP[node] = true;
-            System.out.println(parent + " " + node);
         }
     }
 }
@@ -0,0 +1,321 @@
+package graph.bridgesAndArticulationPoint;
+
+import java.util.Arrays;
+
+public class BlockCutTree {
+
+    private final int totalNodes;
+    private final int[] edgeU;
+    private final int[] edgeV;
+
+    private final BridgesAndArticulationPoints lowLink; // cut vertices, bridges and blocks
+    private final int[] twoEdgeComponent;  // 2-edge-connected component of every vertex
+    private int twoEdgeComponentCount;
+
+    private final RootedForest blockCut;   // nodes 0..totalNodes-1 are vertices, totalNodes + b is block b
+    private final RootedForest bridgeTree; // nodes are 2-edge-connected components, edges are bridges
+
+    public static void main(String[] args) {
+        // Two triangles 0-1-2 and 3-4-5 joined by the bridge 2 - 3, plus a pendant vertex 6 on 5
+        int[] u = {0, 1, 2, 2, 3, 4, 5, 5};
+        int[] v = {1, 2, 0, 3, 4, 5, 3, 6};
+        BlockCutTree tree = new BlockCutTree(7, u, v);
+
+        System.out.println("Blocks: " + tree.blockCount() + ", 2-edge-connected components: " + tree.twoEdgeComponentCount());
+        System.out.println("0 and 6 connected if vertex 3 fails: " + tree.connectedWithoutVertex(0, 6, 3));
+        System.out.println("0 and 1 connected if vertex 3 fails: " + tree.connectedWithoutVertex(0, 1, 3));
+        System.out.println("0 and 4 connected if edge 2 - 0 fails: " + tree.connectedWithoutEdge(0, 4, 2));
+        System.out.println("0 and 4 connected if edge 2 - 3 fails: " + tree.connectedWithoutEdge(0, 4, 3));
+    }
+
+    /**
+     * Decomposes an undirected graph into biconnected and 2-edge-connected components and indexes them for
+     * "are u and v still connected if vertex x / edge e fails" queries.
+     *
+     * Overview:
+     * Answering a failure scenario with `ArticulationPoint` / `Bridges` plus a BFS costs O(V + E) per scenario.
+     * Both kinds of failure have a tree structure that can be precomputed once:
+     * - Block-cut tree: one node per vertex and one per biconnected component (block), with an edge between a vertex
+     *   and every block containing it. u and v are separated by the failure of x exactly when x lies on the tree path
+     *   between u and v (and x is neither of them; then x must be a cut vertex).
+     * - Bridge tree: one node per 2-edge-connected component, one edge per bridge. Only a bridge can disconnect
+     *   anything, and it separates u from v exactly when it lies on the bridge-tree path between their components.
+     *
+     * Intuition:
+     * Both decompositions come out of the single low-link DFS of `BridgesAndArticulationPoints`, run with its edge
+     * stack: a child y of x with low[y] >= tin[x] closes a block, made of the edges pushed since the tree edge x - y;
+     * with low[y] > tin[x] the tree edge is also a bridge. Then the trees are rooted, and every node gets DFS entry / exit
+     * times, so "a is an ancestor of b" is an O(1) interval test. With binary lifting for the LCA, "is x on the path
+     * from u to v" takes O(log V).
+     *
+     * Data Structures Used:
+     * - BridgesAndArticulationPoints: CSR incidence lists, cut vertices, bridges and the block of every edge
+     * - RootedForest: CSR adjacency, tin[] / tout[], depth[], tree id and a binary lifting table for LCA
+     *
+     * Time Complexity: O((V + E) log V) to build; O(log V) per vertex failure query, O(1) per edge failure query.
+     * Space Complexity: O((V + E) log V) for the lifting table of the block-cut tree.
+     * Edge Cases:
+     * - Self loops belong to no block and are never bridges.
+     * - Parallel edges are never bridges; they share a block with every edge on a cycle through them.
+     * - The graph may be disconnected; every connected component becomes one tree of each forest.
+     *
+     * @param totalNodes the total number of nodes in the graph
+     * @param u the first endpoint of each edge
+     * @param v the second endpoint of each edge
+     */
+    public BlockCutTree(int totalNodes, int[] u, int[] v) {
+        this.totalNodes = totalNodes;
+        this.edgeU = u;
+        this.edgeV = v;
+        twoEdgeComponent = new int[totalNodes];
+        lowLink = new BridgesAndArticulationPoints(totalNodes, u, v, true);
+        blockCut = buildBlockCutTree();
+        labelTwoEdgeComponents();
+        bridgeTree = buildBridgeTree();
+    }
+
+    /**
+     * @return true if u and v are in the same connected component
+     */
+    public boolean connected(int u, int v) {
+        return blockCut.treeId[u] == blockCut.treeId[v];
+    }
+
+    /**
+     * @return true if u and v are still connected after vertex x and its edges are removed
+     * (false if x is u or v)
+     */
+    public boolean connectedWithoutVertex(int u, int v, int x) {
+        if (u == x || v == x || !connected(u, v)) return false;
+        if (!lowLink.isArticulationPoint(x) || !connected(u, x)) return true;
+        return !blockCut.onPath(x, u, v);
+    }
+
+    /**
+     * @return true if u and v are still connected after edge e is removed
+     */
+    public boolean connectedWithoutEdge(int u, int v, int e) {
+        if (!connected(u, v)) return false;
+        if (!lowLink.isBridge(e)) return true;
+        // The bridge cuts off the subtree of its lower endpoint in the bridge tree
+        int a = twoEdgeComponent[edgeU[e]], b = twoEdgeComponent[edgeV[e]];
+        int child = bridgeTree.depth[a] > bridgeTree.depth[b] ? a : b;
+        boolean uBelow = bridgeTree.isAncestor(child, twoEdgeComponent[u]);
+        boolean vBelow = bridgeTree.isAncestor(child, twoEdgeComponent[v]);
+        return uBelow == vBelow;
+    }
+
+    public boolean isCutVertex(int x) {
+        return lowLink.isArticulationPoint(x);
+    }
+
+    public boolean isBridge(int e) {
+        return lowLink.isBridge(e);
+    }
+
+    /**
+     * @return the biconnected component (block) of edge e, or -1 for a self loop
+     */
+    public int blockOfEdge(int e) {
+        return lowLink.blockOfEdge(e);
+    }
+
+    public int blockCount() {
+        return lowLink.blockCount();
+    }
+
+    /**
+     * @return the 2-edge-connected component of vertex x
+     */
+    public int twoEdgeComponent(int x) {
+        return twoEdgeComponent[x];
+    }
+
+    public int twoEdgeComponentCount() {
+        return twoEdgeComponentCount;
+    }
+
+    /**
+     * Connects every vertex to the blocks that contain it.
+     */
+    private RootedForest buildBlockCutTree() {
+        int blockCount = lowLink.blockCount();
+        int nodes = totalNodes + blockCount;
+        int[] lastBlock = new int[totalNodes]; // lastBlock[x] == b means the tree edge x - b already exists
+        Arrays.fill(lastBlock, -1);
+
+        // Edges are grouped by block, so a per-vertex marker is enough to drop duplicates
+        int[] edgesByBlock = sortEdgesByBlock();
+        int[] treeFrom = new int[2 * edgeU.length];
+        int[] treeTo = new int[2 * edgeU.length];
+        int treeEdges = 0;
+        for (int e : edgesByBlock) {
+            int b = lowLink.blockOfEdge(e);
+            for (int side = 0; side < 2; side++) {
+                int x = side == 0 ? edgeU[e] : edgeV[e];
+                if (lastBlock[x] == b) continue;
+                lastBlock[x] = b;
+                treeFrom[treeEdges] = x;
+                treeTo[treeEdges++] = totalNodes + b;
+            }
+        }
+        return new RootedForest(nodes, treeFrom, treeTo, treeEdges, true);
+    }
+
+    private int[] sortEdgesByBlock() {
+        int blockCount = lowLink.blockCount();
+        int[] start = new int[blockCount + 1];
+        for (int e = 0; e < edgeU.length; e++) {
+            int b = lowLink.blockOfEdge(e);
+            if (b != -1) start[b + 1]++;
+        }
+        for (int b = 0; b < blockCount; b++) {
+            start[b + 1] += start[b];
+        }
+        int[] result = new int[start[blockCount]];
+        for (int e = 0; e < edgeU.length; e++) {
+            int b = lowLink.blockOfEdge(e);
+            if (b != -1) result[start[b]++] = e;
+        }
+        return result;
+    }
+
+    /**
+     * Labels the connected components of the graph without its bridges.
+     */
+    private void labelTwoEdgeComponents() {
+        int[] offsets = lowLink.offsets, adjNode = lowLink.adjNode, adjEdge = lowLink.adjEdge;
+        Arrays.fill(twoEdgeComponent, -1);
+        int[] queue = new int[totalNodes];
+        for (int start = 0; start < totalNodes; start++) {
+            if (twoEdgeComponent[start] != -1) continue;
+            int id = twoEdgeComponentCount++;
+            int head = 0, tail = 0;
+            twoEdgeComponent[start] = id;
+            queue[tail++] = start;
+            while (head < tail) {
+                int x = queue[head++];
+                for (int i = offsets[x]; i < offsets[x + 1]; i++) {
+                    int y = adjNode[i];
+                    if (lowLink.isBridge(adjEdge[i]) || twoEdgeComponent[y] != -1) continue;
+                    twoEdgeComponent[y] = id;
+                    queue[tail++] = y;
+                }
+            }
+        }
+    }
+
+    private RootedForest buildBridgeTree() {
+        int[] bridges = lowLink.bridges();
+        int[] treeFrom = new int[bridges.length];
+        int[] treeTo = new int[bridges.length];
+        int count = 0;
+        for (int e : bridges) {
+            treeFrom[count] = twoEdgeComponent[edgeU[e]];
+            treeTo[count++] = twoEdgeComponent[edgeV[e]];
+        }
+        return new RootedForest(twoEdgeComponentCount, treeFrom, treeTo, count, false);
+    }
+
+    /**
+     * A forest rooted at the smallest node of every tree, with O(1) ancestor tests and optional LCA by binary lifting.
+     */
+    private static class RootedForest {
+        final int[] tin;
+        final int[] tout;
+        final int[] depth;
+        final int[] treeId;
+        final int[][] up; // up[k][x] is the 2^k-th ancestor of x (the root for too large k); null without LCA
+
+        RootedForest(int nodes, int[] from, int[] to, int edges, boolean withLca) {
+            int[] offsets = new int[nodes + 1];
+            int[] adj = new int[2 * edges];
+            for (int e = 0; e < edges; e++) {
+                offsets[from[e] + 1]++;
+                offsets[to[e] + 1]++;
+            }
+            for (int x = 0; x < nodes; x++) {
+                offsets[x + 1] += offsets[x];
+            }
+            int[] fill = Arrays.copyOf(offsets, nodes);
+            for (int e = 0; e < edges; e++) {
+                adj[fill[from[e]]++] = to[e];
+                adj[fill[to[e]]++] = from[e];
+            }
+
+            tin = new int[nodes];
+            tout = new int[nodes];
+            depth = new int[nodes];
+            treeId = new int[nodes];
+            int[] parent = new int[nodes];
+            int[] cursor = new int[nodes];
+            int[] stack = new int[nodes];
+            Arrays.fill(tin, -1);
+            int timer = 0;
+            int trees = 0;
+            for (int root = 0; root < nodes; root++) {
+                if (tin[root] != -1) continue;
+                int top = 0;
+                tin[root] = timer++;
+                parent[root] = root;
+                treeId[root] = trees;
+                cursor[root] = offsets[root];
+                stack[top++] = root;
+                while (top > 0) {
+                    int x = stack[top - 1];
+                    if (cursor[x] < offsets[x + 1]) {
+                        int y = adj[cursor[x]++];
+                        if (tin[y] != -1) continue;
+                        tin[y] = timer++;
+                        parent[y] = x;
+                        depth[y] = depth[x] + 1;
+                        treeId[y] = trees;
+                        cursor[y] = offsets[y];
+                        stack[top++] = y;
+                    } else {
+                        tout[x] = timer++;
+                        top--;
+                    }
+                }
+                trees++;
+            }
+
+            if (!withLca) {
+                up = null;
+                return;
+            }
+            int levels = 1;
+            while ((1 << levels) < nodes) levels++;
+            up = new int[levels][];
+            up[0] = parent;
+            for (int k = 1; k < levels; k++) {
+                int[] previous = up[k - 1];
+                int[] current = new int[nodes];
+                for (int x = 0; x < nodes; x++) {
+                    current[x] = previous[previous[x]];
+                }
+                up[k] = current;
+            }
+        }
+
+        boolean isAncestor(int a, int b) {
+            return tin[a] <= tin[b] && tout[b] <= tout[a];
+        }
+
+        int lca(int a, int b) {
+            if (isAncestor(a, b)) return a;
+            if (isAncestor(b, a)) return b;
+            for (int k = up.length - 1; k >= 0; k--) {
+                if (!isAncestor(up[k][a], b)) a = up[k][a];
+            }
+            return up[0][a];
+        }
+
+        /**
+         * @return true if x lies on the tree path between a and b (all in the same tree)
+         */
+        boolean onPath(int x, int a, int b) {
+            return isAncestor(lca(a, b), x) && (isAncestor(x, a) || isAncestor(x, b));
+        }
+    }
+}
@@ -5,6 +5,8 @@ import java.util.Arrays;
 
 public class Bridges {
 
+    private int timer; // DFS discovery clock, shared by the whole traversal
+
     public static void main(String[] args) {
         int totalNodes = 5;
         ArrayList<ArrayList<Integer>> adj = new ArrayList<>();
@@ -67,11 +69,12 @@ public class Bridges {
 
         // Initialize all nodes as unvisited
         Arrays.fill(visited, false);
+        timer = 1;
 
         // Perform DFS from each unvisited node
         for (int i = 0; i < totalNodes; i++) {
             if (!visited[i]) {
-                dfs(i, -1, adj, visited, discoveryTime, lowestReachable, 1);
+                dfs(i, -1, adj, visited, discoveryTime, lowestReachable);
             }
         }
     }
@@ -85,9 +88,8 @@ public class Bridges {
      * @param visited the visited array
      * @param discoveryTime the discovery time array
      * @param lowestReachable the lowest discovery time array
-     * @param timer the current time step
      */
-    private void dfs(int node, int parent, ArrayList<ArrayList<Integer>> adj, boolean[] visited, int[] discoveryTime, int[] lowestReachable, int timer) {
+    private void dfs(int node, int parent, ArrayList<ArrayList<Integer>> adj, boolean[] visited, int[] discoveryTime, int[] lowestReachable) {
         visited[node] = true;
         discoveryTime[node] = lowestReachable[node] = timer++; // Initialize discovery time and lowest reachable value
 
@@ -98,7 +100,7 @@ public class Bridges {
 
             if (!visited[adjNode]) {
                 // If the adjacent node is not visited, perform DFS
-                dfs(adjNode, node, adj, visited, discoveryTime, lowestReachable, timer);
+                dfs(adjNode, node, adj, visited, discoveryTime, lowestReachable);
                 // Update lowest reachable value of the current node
                 lowestReachable[node] = Math.min(lowestReachable[node], lowestReachable[adjNode]);
 
@@ -0,0 +1,260 @@
+package graph.bridgesAndArticulationPoint;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+
+public class BridgesAndArticulationPoints {
+
+    private final int totalNodes;
+    private final int[] edgeU;
+    private final int[] edgeV;
+    // CSR: the incidences of u are adjNode/adjEdge[offsets[u]..offsets[u+1]); package-private for BlockCutTree
+    final int[] offsets;
+    final int[] adjNode;
+    final int[] adjEdge;
+
+    private final boolean[] isBridge;
+    private final BitSet cutVertices;
+    private final int[] blockOfEdge; // biconnected component of every edge, -1 for self loops; null unless requested
+    private int blockCount;
+
+    public static void main(String[] args) {
+        int totalNodes = 6;
+        ArrayList<ArrayList<Integer>> adj = new ArrayList<>();
+        for (int i = 0; i < totalNodes; i++)
+            adj.add(new ArrayList<>());
+
+        // Same graph as ArticulationPoint.main
+        int[][] edges = {{0, 1}, {0, 2}, {1, 2}, {1, 3}, {3, 4}};
+        for (int[] edge : edges) {
+            adj.get(edge[0]).add(edge[1]);
+            adj.get(edge[1]).add(edge[0]);
+        }
+
+        BridgesAndArticulationPoints obj = new BridgesAndArticulationPoints(totalNodes, adj);
+        for (int id : obj.bridges()) {
+            System.out.println("Bridge: " + obj.edgeU[id] + " - " + obj.edgeV[id]);
+        }
+        System.out.println("Articulation Points: " + obj.articulationPoints());
+    }
+
+    /**
+     * Builds the structure from an adjacency list in the layout of `Bridges` and `ArticulationPoint`, where every
+     * undirected edge appears in both lists. Edge ids are assigned in the order the pairs u < v are met.
+     *
+     * @param totalNodes the total number of nodes in the graph
+     * @param adj the adjacency list representing the undirected graph
+     */
+    public BridgesAndArticulationPoints(int totalNodes, ArrayList<ArrayList<Integer>> adj) {
+        this(totalNodes, endpoints(totalNodes, adj, true), endpoints(totalNodes, adj, false));
+    }
+
+    /**
+     * Finds all bridges and articulation points of an undirected graph with an iterative low-link DFS.
+     *
+     * Overview:
+     * `Bridges` and `ArticulationPoint` recurse once per vertex and print from inside the DFS, so a long path in a
+     * large graph overflows the call stack and console output dominates the running time. This version runs the same
+     * low-link computation with an explicit stack over a CSR adjacency, and returns the results:
+     * the ids of the bridge edges and a BitSet of cut vertices.
+     *
+     * Intuition:
+     * Same as `Bridges` and `ArticulationPoint`: tin[x] is the DFS discovery time and low[x] the smallest discovery
+     * time reachable from x's subtree using at most one back edge. When the DFS finishes child y of x:
+     * - low[y] > tin[x] means nothing below y reaches x or above it, so the tree edge x - y is a bridge;
+     * - low[y] >= tin[x] means nothing below y reaches above x, so x is a cut vertex (unless x is the DFS root,
+     *   which is a cut vertex if it has two or more DFS children).
+     * Every vertex keeps a cursor into its incidence list, so the DFS can resume the scan of x exactly where it left
+     * off when y is finished. The parent is skipped by edge id rather than by vertex, so parallel edges are
+     * correctly treated as a cycle.
+     *
+     * Data Structures Used:
+     * - offsets[], adjNode[], adjEdge[]: CSR incidence lists with edge ids
+     * - tin[], low[], parentEdge[], cursor[]: DFS state per vertex, no recursion
+     *
+     * Time Complexity: O(V + E).
+     * Space Complexity: O(V + E).
+     * Edge Cases:
+     * - Self loops never matter; parallel edges are never bridges.
+     * - The graph may be disconnected.
+     *
+     * @param totalNodes the total number of nodes in the graph
+     * @param u the first endpoint of each edge
+     * @param v the second endpoint of each edge
+     */
+    public BridgesAndArticulationPoints(int totalNodes, int[] u, int[] v) {
+        this(totalNodes, u, v, false);
+    }
+
+    /**
+     * Same as the public constructor; with blocks set, the DFS also keeps an edge stack and splits the edges into
+     * biconnected components (blocks), as used by `BlockCutTree`: a child y of x with low[y] >= tin[x] closes the
+     * block made of the edges pushed since the tree edge x - y.
+     */
+    BridgesAndArticulationPoints(int totalNodes, int[] u, int[] v, boolean blocks) {
+        this.totalNodes = totalNodes;
+        this.edgeU = u;
+        this.edgeV = v;
+        offsets = new int[totalNodes + 1];
+        adjNode = new int[2 * u.length];
+        adjEdge = new int[2 * u.length];
+        for (int e = 0; e < u.length; e++) {
+            offsets[u[e] + 1]++;
+            offsets[v[e] + 1]++;
+        }
+        for (int x = 0; x < totalNodes; x++) {
+            offsets[x + 1] += offsets[x];
+        }
+        int[] fill = Arrays.copyOf(offsets, totalNodes);
+        for (int e = 0; e < u.length; e++) {
+            adjNode[fill[u[e]]] = v[e];
+            adjEdge[fill[u[e]]++] = e;
+            adjNode[fill[v[e]]] = u[e];
+            adjEdge[fill[v[e]]++] = e;
+        }
+
+        isBridge = new boolean[u.length];
+        cutVertices = new BitSet(totalNodes);
+        if (blocks) {
+            blockOfEdge = new int[u.length];
+            Arrays.fill(blockOfEdge, -1);
+        } else {
+            blockOfEdge = null;
+        }
+        lowLink();
+    }
+
+    /**
+     * @return the ids of all bridges, in ascending order
+     */
+    public int[] bridges() {
+        int count = 0;
+        for (boolean b : isBridge) {
+            if (b) count++;
+        }
+        int[] result = new int[count];
+        count = 0;
+        for (int e = 0; e < isBridge.length; e++) {
+            if (isBridge[e]) result[count++] = e;
+        }
+        return result;
+    }
+
+    /**
+     * @return true if edge id is a bridge
+     */
+    public boolean isBridge(int id) {
+        return isBridge[id];
+    }
+
+    /**
+     * @return the set of articulation points (cut vertices)
+     */
+    public BitSet articulationPoints() {
+        return (BitSet) cutVertices.clone();
+    }
+
+    /**
+     * @return true if x is an articulation point
+     */
+    public boolean isArticulationPoint(int x) {
+        return cutVertices.get(x);
+    }
+
+    /**
+     * @return the block of edge e, or -1 for a self loop; only available when built with blocks
+     */
+    int blockOfEdge(int e) {
+        return blockOfEdge[e];
+    }
+
+    int blockCount() {
+        return blockCount;
+    }
+
+    private void lowLink() {
+        int[] tin = new int[totalNodes];
+        int[] low = new int[totalNodes];
+        int[] parentEdge = new int[totalNodes];
+        int[] cursor = new int[totalNodes];
+        int[] stack = new int[totalNodes];
+        int[] edgeStack = blockOfEdge == null ? null : new int[edgeU.length];
+        int edgeTop = 0;
+        Arrays.fill(tin, -1);
+        int timer = 0;
+
+        for (int root = 0; root < totalNodes; root++) {
+            if (tin[root] != -1) continue;
+            int rootChildren = 0;
+            int top = 0;
+            tin[root] = low[root] = timer++;
+            parentEdge[root] = -1;
+            cursor[root] = offsets[root];
+            stack[top++] = root;
+
+            while (top > 0) {
+                int x = stack[top - 1];
+                if (cursor[x] < offsets[x + 1]) {
+                    int i = cursor[x]++;
+                    int e = adjEdge[i];
+                    if (e == parentEdge[x]) continue;
+                    int y = adjNode[i];
+                    if (tin[y] == -1) {
+                        // Tree edge: descend into y
+                        if (edgeStack != null) edgeStack[edgeTop++] = e;
+                        tin[y] = low[y] = timer++;
+                        parentEdge[y] = e;
+                        cursor[y] = offsets[y];
+                        stack[top++] = y;
+                        if (x == root) rootChildren++;
+                    } else if (tin[y] < tin[x]) {
+                        // Back edge to an ancestor; seen again later from the ancestor's side, then ignored
+                        if (edgeStack != null) edgeStack[edgeTop++] = e;
+                        low[x] = Math.min(low[x], tin[y]);
+                    }
+                } else {
+                    // x is finished: report to its DFS parent
+                    top--;
+                    if (top == 0) break;
+                    int p = stack[top - 1];
+                    low[p] = Math.min(low[p], low[x]);
+                    if (low[x] > tin[p]) isBridge[parentEdge[x]] = true;
+                    if (low[x] >= tin[p]) {
+                        if (p != root) cutVertices.set(p);
+                        if (edgeStack != null) {
+                            // Everything pushed since the tree edge p - x forms one block
+                            int block = blockCount++;
+                            int e;
+                            do {
+                                e = edgeStack[--edgeTop];
+                                blockOfEdge[e] = block;
+                            } while (e != parentEdge[x]);
+                        }
+                    }
+                }
+            }
+            if (rootChildren > 1) cutVertices.set(root);
+        }
+    }
+
+    /**
+     * @return the first (u) or second (v) endpoints of the edges u < v of the adjacency list
+     */
+    private static int[] endpoints(int totalNodes, ArrayList<ArrayList<Integer>> adj, boolean first) {
+        int edges = 0;
+        for (int x = 0; x < totalNodes; x++) {
+            for (int y : adj.get(x)) {
+                if (x < y) edges++;
+            }
+        }
+        int[] result = new int[edges];
+        int e = 0;
+        for (int x = 0; x < totalNodes; x++) {
+            for (int y : adj.get(x)) {
+                if (x < y) result[e++] = first ? x : y;
+            }
+        }
+        return result;
+    }
+}
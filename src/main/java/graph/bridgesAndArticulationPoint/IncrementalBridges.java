@@ -0,0 +1,255 @@
+package graph.bridgesAndArticulationPoint;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+public class IncrementalBridges {
+
+    private static final int NONE = -1;
+
+    private final int[] twoEdge;        // union-find over 2-edge-connected components (2ECCs)
+    private final int[] component;      // union-find over connected components, on 2ECC representatives
+    private final int[] componentSize;  // valid for component roots
+    private final int[] parent;         // spanning forest over 2ECC representatives, NONE for a tree root
+    private final int[] parentEdge;     // id of the bridge from a 2ECC to its parent
+
+    private final BitSet bridges = new BitSet();
+    private int bridgeCount;
+    private int edgeCount;
+
+    // Scratch for mergePath: 2ECCs on the two paths, and the round in which a 2ECC was last visited
+    private final int[] lastVisit;
+    private int round;
+    private int[] pathA = new int[16];
+    private int[] pathB = new int[16];
+
+    public static void main(String[] args) {
+        IncrementalBridges obj = new IncrementalBridges(5);
+
+        // Same edges as Bridges.main, arriving one at a time
+        int[][] edges = {{0, 1}, {0, 2}, {1, 2}, {1, 3}, {3, 4}, {4, 1}};
+        for (int[] edge : edges) {
+            obj.addEdge(edge[0], edge[1]);
+            System.out.println("Added " + edge[0] + " - " + edge[1] + ", bridges: " + obj.bridgeCount()
+                    + " " + Arrays.toString(obj.bridges()));
+        }
+    }
+
+    /**
+     * Maintains the bridges of an undirected graph under edge insertions.
+     *
+     * Overview:
+     * `Bridges.printBridges` and `BridgesAndArticulationPoints` recompute everything with a full DFS. When edges only
+     * get added, bridges can only disappear, except for a new edge that joins two components, which is a new bridge.
+     * This structure keeps the graph compressed into its 2-edge-connected components (2ECCs), joined into a spanning
+     * forest whose edges are exactly the current bridges.
+     *
+     * Intuition:
+     * A new edge (a, b):
+     * - inside one 2ECC changes nothing;
+     * - between two connected components becomes a bridge. The smaller tree is re-rooted at a's 2ECC and hung under
+     *   b's 2ECC, so every 2ECC is re-rooted O(log V) times in total (small-to-large);
+     * - between two 2ECCs of the same tree closes a cycle through the tree path between them. Every bridge on that
+     *   path stops being a bridge, and all 2ECCs on it merge into one. The path is found by walking up from both ends
+     *   alternately until one walk meets a 2ECC the other has visited: that is the LCA.
+     * Merged 2ECCs never split again, so every 2ECC leaves the forest at most once and the path walks are paid for
+     * by those merges.
+     *
+     * Data Structures Used:
+     * - twoEdge[]: union-find with path compression over 2ECCs
+     * - component[] / componentSize[]: union-find over connected components, to detect joins and re-root small trees
+     * - parent[] / parentEdge[]: the spanning forest over 2ECC representatives and the bridge id of each forest edge
+     * - bridges: BitSet of current bridge ids, so the set can be read at any time without a traversal
+     *
+     * Time Complexity: O(log V) amortized per insertion (plus near-constant union-find work), O(V log V + E) in total.
+     * Space Complexity: O(V) plus one bit per inserted edge.
+     * Edge Cases:
+     * - Self loops and parallel edges are never bridges.
+     *
+     * @param totalNodes the total number of nodes in the graph
+     */
+    public IncrementalBridges(int totalNodes) {
+        twoEdge = new int[totalNodes];
+        component = new int[totalNodes];
+        componentSize = new int[totalNodes];
+        parent = new int[totalNodes];
+        parentEdge = new int[totalNodes];
+        lastVisit = new int[totalNodes];
+        for (int i = 0; i < totalNodes; i++) {
+            twoEdge[i] = i;
+            component[i] = i;
+            componentSize[i] = 1;
+            parent[i] = NONE;
+            parentEdge[i] = NONE;
+        }
+    }
+
+    /**
+     * Inserts the undirected edge (u, v). Edges are numbered in insertion order starting at 0.
+     *
+     * @return the id of the new edge
+     */
+    public int addEdge(int u, int v) {
+        int id = edgeCount++;
+        int a = findTwoEdge(u);
+        int b = findTwoEdge(v);
+        if (a == b) return id;
+
+        int ca = findComponent(a);
+        int cb = findComponent(b);
+        if (ca != cb) {
+            // New bridge: hang the smaller tree under the larger one
+            if (componentSize[ca] > componentSize[cb]) {
+                int tmp = a;
+                a = b;
+                b = tmp;
+                tmp = ca;
+                ca = cb;
+                cb = tmp;
+            }
+            makeRoot(a);
+            parent[a] = b;
+            parentEdge[a] = id;
+            component[a] = b;
+            componentSize[cb] += componentSize[a];
+            bridges.set(id);
+            bridgeCount++;
+        } else {
+            mergePath(a, b);
+        }
+        return id;
+    }
+
+    /**
+     * @return the number of bridges in the current graph
+     */
+    public int bridgeCount() {
+        return bridgeCount;
+    }
+
+    /**
+     * @return true if edge id is currently a bridge
+     */
+    public boolean isBridge(int id) {
+        return bridges.get(id);
+    }
+
+    /**
+     * @return the ids of the current bridges, in ascending order
+     */
+    public int[] bridges() {
+        return bridges.stream().toArray();
+    }
+
+    /**
+     * @return true if u and v are connected
+     */
+    public boolean connected(int u, int v) {
+        return findComponent(findTwoEdge(u)) == findComponent(findTwoEdge(v));
+    }
+
+    /**
+     * @return true if u and v stay connected after the removal of any single edge
+     */
+    public boolean twoEdgeConnected(int u, int v) {
+        return findTwoEdge(u) == findTwoEdge(v);
+    }
+
+    private int findTwoEdge(int x) {
+        if (x == NONE) return NONE;
+        while (twoEdge[x] != x) {
+            twoEdge[x] = twoEdge[twoEdge[x]]; // Path halving
+            x = twoEdge[x];
+        }
+        return x;
+    }
+
+    /**
+     * Finds the connected component root of a 2ECC representative. component[] can point at 2ECCs that have been
+     * merged away since, so every step goes through findTwoEdge.
+     */
+    private int findComponent(int x) {
+        int root = x;
+        while (true) {
+            int next = findTwoEdge(component[root]);
+            if (next == root) break;
+            root = next;
+        }
+        // Path compression
+        while (x != root) {
+            int next = findTwoEdge(component[x]);
+            component[x] = root;
+            x = next;
+        }
+        return root;
+    }
+
+    /**
+     * Re-roots the tree of 2ECC x at x by reversing the parent pointers (and the bridge ids) along the path to the root.
+     */
+    private void makeRoot(int x) {
+        int root = x;
+        int child = NONE;
+        int childEdge = NONE;
+        while (x != NONE) {
+            int p = findTwoEdge(parent[x]);
+            int edge = parentEdge[x];
+            parent[x] = child;
+            parentEdge[x] = childEdge;
+            component[x] = root;
+            child = x;
+            childEdge = edge;
+            x = p;
+        }
+        componentSize[root] = componentSize[child];
+    }
+
+    /**
+     * Merges all 2ECCs on the tree path between a and b into their LCA; the bridges on the path disappear.
+     */
+    private void mergePath(int a, int b) {
+        round++;
+        int sizeA = 0, sizeB = 0;
+        int lca = NONE;
+        while (lca == NONE) {
+            if (a != NONE) {
+                a = findTwoEdge(a);
+                pathA = push(pathA, sizeA++, a);
+                if (lastVisit[a] == round) {
+                    lca = a;
+                    break;
+                }
+                lastVisit[a] = round;
+                a = parent[a];
+            }
+            if (b != NONE) {
+                b = findTwoEdge(b);
+                pathB = push(pathB, sizeB++, b);
+                if (lastVisit[b] == round) {
+                    lca = b;
+                    break;
+                }
+                lastVisit[b] = round;
+                b = parent[b];
+            }
+        }
+        collapse(pathA, sizeA, lca);
+        collapse(pathB, sizeB, lca);
+    }
+
+    private void collapse(int[] path, int size, int lca) {
+        for (int i = 0; i < size; i++) {
+            int x = path[i];
+            twoEdge[x] = lca;
+            if (x == lca) break;
+            bridges.clear(parentEdge[x]);
+            bridgeCount--;
+        }
+    }
+
+    private static int[] push(int[] array, int index, int value) {
+        if (index == array.length) array = Arrays.copyOf(array, array.length << 1);
+        array[index] = value;
+        return array;
+    }
+}
@@ -1,4 +1,454 @@
 package graph.bridgesAndArticulationPoint;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 public class Kosaraju {
+
+    private static final int DONE = -1;                    // color of a vertex whose component is known
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 12; // smaller FW-BW subproblems fall back to Kosaraju
+    private static final int FRONTIER_THRESHOLD = 1 << 10;   // smaller BFS frontiers are expanded on the calling thread
+    private static final int TRIM_ROUNDS = 3;
+
+    private final int totalNodes;
+    private final int[] offsets;         // CSR: the successors of u are targets[offsets[u]..offsets[u+1])
+    private final int[] targets;
+    private final int[] reverseOffsets;  // CSR of the transposed graph
+    private final int[] reverseTargets;
+
+    public static void main(String[] args) {
+        int totalNodes = 8;
+        ArrayList<ArrayList<Integer>> adj = new ArrayList<>();
+        for (int i = 0; i < totalNodes; i++) {
+            adj.add(new ArrayList<>());
+        }
+
+        adj.get(0).add(1);
+        adj.get(1).add(2);
+        adj.get(2).add(0);
+        adj.get(2).add(3);
+        adj.get(3).add(4);
+        adj.get(4).add(5);
+        adj.get(5).add(3);
+        adj.get(6).add(5);
+        adj.get(6).add(7);
+        adj.get(7).add(6);
+
+        Kosaraju obj = new Kosaraju(totalNodes, adj);
+        Components scc = obj.components();
+        System.out.println("Sequential: " + scc.count + " SCCs, component of every vertex: " + Arrays.toString(scc.component));
+
+        Components parallel = obj.componentsParallel();
+        System.out.println("Parallel:   " + parallel.count + " SCCs, component of every vertex: " + Arrays.toString(parallel.component));
+
+        Condensation dag = obj.condensation(scc);
+        for (int c = 0; c < scc.count; c++) {
+            System.out.println("Component " + c + " -> " + Arrays.toString(Arrays.copyOfRange(dag.targets, dag.offsets[c], dag.offsets[c + 1])));
+        }
+    }
+
+    /**
+     * Strongly connected components: component[v] is the id of the SCC of v, ids are 0..count-1.
+     */
+    public static class Components {
+        public final int[] component;
+        public final int count;
+
+        Components(int[] component, int count) {
+            this.component = component;
+            this.count = count;
+        }
+    }
+
+    /**
+     * The condensation DAG in CSR form: the successors of component c are targets[offsets[c]..offsets[c+1]),
+     * without duplicates.
+     */
+    public static class Condensation {
+        public final int[] offsets;
+        public final int[] targets;
+
+        Condensation(int[] offsets, int[] targets) {
+            this.offsets = offsets;
+            this.targets = targets;
+        }
+    }
+
+    /**
+     * Builds the engine from an adjacency list in the usual layout of this package.
+     *
+     * @param totalNodes the total number of nodes in the graph
+     * @param adj the adjacency list representing the directed graph
+     */
+    public Kosaraju(int totalNodes, ArrayList<ArrayList<Integer>> adj) {
+        this(totalNodes, flatten(totalNodes, adj, true), flatten(totalNodes, adj, false));
+    }
+
+    /**
+     * Builds the engine from an edge list given as parallel primitive arrays (edge from[e] -> to[e]).
+     *
+     * @param totalNodes the total number of nodes in the graph
+     * @param from the source of each edge
+     * @param to the target of each edge
+     */
+    public Kosaraju(int totalNodes, int[] from, int[] to) {
+        this.totalNodes = totalNodes;
+        offsets = new int[totalNodes + 1];
+        targets = new int[from.length];
+        buildCsr(totalNodes, from, to, offsets, targets);
+        reverseOffsets = new int[totalNodes + 1];
+        reverseTargets = new int[from.length];
+        buildCsr(totalNodes, to, from, reverseOffsets, reverseTargets);
+    }
+
+    /**
+     * Finds the strongly connected components with an iterative version of Kosaraju's algorithm.
+     *
+     * Overview:
+     * An SCC is a maximal set of vertices that can all reach each other. Kosaraju's algorithm needs two depth-first
+     * searches, which are usually written recursively like the DFS in `Bridges` and `ArticulationPoint`; on graphs with
+     * millions of vertices a long path overflows the call stack. Here both searches use an explicit stack and a
+     * per-vertex edge cursor, over CSR arrays instead of boxed adjacency lists.
+     *
+     * Intuition:
+     * 1. A DFS over the graph records vertices in post-order (finish time). The vertex finishing last lies in a source
+     *    component of the condensation DAG.
+     * 2. A search over the transposed graph, started from vertices in decreasing finish time, cannot leave the
+     *    component of its start vertex: every edge out of it in the transposed graph leads to a component that has
+     *    already been labeled. Each such search therefore collects exactly one SCC.
+     *
+     * Data Structures Used:
+     * - offsets[] / targets[] and reverseOffsets[] / reverseTargets[]: CSR of the graph and of its transpose
+     * - cursor[]: next edge to scan per vertex, replacing the recursion's loop variable
+     * - color: per-vertex state (unvisited / on the first pass / done); an AtomicIntegerArray shared with the parallel
+     *   mode, read and written with plain accesses here
+     *
+     * Time Complexity: O(V + E).
+     * Space Complexity: O(V + E), no recursion.
+     * Edge Cases:
+     * - Component ids follow a topological order of the condensation: every edge between components goes from a
+     *   smaller id to a larger one.
+     *
+     * @return the component of every vertex and the number of components
+     */
+    public Components components() {
+        int[] component = new int[totalNodes];
+        Arrays.fill(component, -1);
+        AtomicIntegerArray color = new AtomicIntegerArray(totalNodes);
+        AtomicInteger nextComponent = new AtomicInteger();
+        AtomicInteger nextColor = new AtomicInteger(1);
+        kosaraju(IntStream.range(0, totalNodes).toArray(), 0, color, component, new int[totalNodes], nextComponent, nextColor);
+        return new Components(component, nextComponent.get());
+    }
+
+    /**
+     * Finds the strongly connected components with the parallel forward-backward (FW-BW) algorithm with trimming.
+     *
+     * Overview:
+     * DFS is inherently sequential. FW-BW only needs reachability, which parallelizes: for a pivot p, the vertices both
+     * reachable from p (FW) and reaching p (BW) form p's SCC. Every other SCC lies entirely inside FW \ SCC, BW \ SCC
+     * or the rest, so those three sets are independent subproblems that can be solved at the same time.
+     *
+     * Intuition:
+     * - Reachability itself is parallel: the forward and backward searches are level-synchronous BFS, and all vertices
+     *   of a frontier are expanded at once. A vertex is claimed with a compare-and-set on its color, so exactly one
+     *   thread appends it to the next frontier. This matters most in the first round, where one subproblem holds
+     *   nearly the whole graph and its giant SCC.
+     * - Trimming: a vertex without incoming or without outgoing edges inside its subproblem is an SCC by itself.
+     *   Real graphs have many of those, and FW-BW would peel them off one pivot at a time. Every subproblem is
+     *   trimmed (a few parallel passes) before it is split, since splitting exposes new such vertices.
+     * - Every subproblem owns a color; a vertex belongs to the subproblem whose color it carries. Subproblems are
+     *   disjoint, so they write to disjoint vertices. Colors are never reused, so a vertex read from another
+     *   subproblem can never look like one of ours.
+     * - Subproblems are processed round by round, all subproblems of a round in parallel. There is no recursion, so
+     *   long chains of subproblems cannot overflow the stack. Small subproblems are finished with the iterative
+     *   Kosaraju restricted to their color.
+     *
+     * Data Structures Used:
+     * - color: AtomicIntegerArray, so BFS frontiers can claim vertices with compareAndSet
+     * - one queue per search, in which every BFS level is a contiguous slice and the next level is appended through
+     *   an atomic cursor (as in `TopologicalSortParallel`)
+     *
+     * Time Complexity: O((V + E) log V) expected work for random pivots on typical graphs, O(V * E) worst case;
+     * O(D) synchronization rounds per search, where D is the BFS depth.
+     * Space Complexity: O(V + E).
+     * Limitations:
+     * - Component ids depend on thread timing; only the partition into components is deterministic.
+     * - Graphs with a large diameter (long paths) give long chains of small frontiers, which run sequentially.
+     *
+     * @return the component of every vertex and the number of components
+     */
+    public Components componentsParallel() {
+        int[] component = new int[totalNodes];
+        Arrays.fill(component, -1);
+        AtomicIntegerArray color = new AtomicIntegerArray(totalNodes);
+        int[] cursor = new int[totalNodes];
+        AtomicInteger nextComponent = new AtomicInteger();
+        AtomicInteger nextColor = new AtomicInteger(1);
+
+        List<Subproblem> round = new ArrayList<>();
+        if (totalNodes > 0) round.add(new Subproblem(IntStream.range(0, totalNodes).toArray(), 0));
+
+        while (!round.isEmpty()) {
+            round = round.parallelStream()
+                    .flatMap(p -> split(p, color, component, cursor, nextComponent, nextColor).stream())
+                    .collect(Collectors.toList());
+        }
+        return new Components(component, nextComponent.get());
+    }
+
+    /**
+     * Builds the condensation DAG: one vertex per SCC and one edge per pair of components joined by at least one edge.
+     *
+     * @param scc the components returned by components() or componentsParallel()
+     * @return the condensation in CSR form
+     */
+    public Condensation condensation(Components scc) {
+        int[] comp = scc.component;
+        int[] dagOffsets = new int[scc.count + 1];
+        for (int u = 0; u < totalNodes; u++) {
+            for (int i = offsets[u]; i < offsets[u + 1]; i++) {
+                if (comp[u] != comp[targets[i]]) dagOffsets[comp[u] + 1]++;
+            }
+        }
+        for (int c = 0; c < scc.count; c++) {
+            dagOffsets[c + 1] += dagOffsets[c];
+        }
+        int[] candidate = new int[dagOffsets[scc.count]];
+        int[] fill = Arrays.copyOf(dagOffsets, scc.count);
+        for (int u = 0; u < totalNodes; u++) {
+            for (int i = offsets[u]; i < offsets[u + 1]; i++) {
+                if (comp[u] != comp[targets[i]]) candidate[fill[comp[u]]++] = comp[targets[i]];
+            }
+        }
+
+        // Drop parallel edges: lastSource[d] == c means the edge c -> d was already kept
+        int[] lastSource = new int[scc.count];
+        Arrays.fill(lastSource, -1);
+        int[] resultOffsets = new int[scc.count + 1];
+        int kept = 0;
+        for (int c = 0; c < scc.count; c++) {
+            for (int i = dagOffsets[c]; i < dagOffsets[c + 1]; i++) {
+                int d = candidate[i];
+                if (lastSource[d] == c) continue;
+                lastSource[d] = c;
+                candidate[kept++] = d;
+            }
+            resultOffsets[c + 1] = kept;
+        }
+        return new Condensation(resultOffsets, Arrays.copyOf(candidate, kept));
+    }
+
+    /**
+     * A set of vertices, all carrying the given color, that is known to be a union of whole SCCs.
+     */
+    private static class Subproblem {
+        final int[] nodes;
+        final int color;
+
+        Subproblem(int[] nodes, int color) {
+            this.nodes = nodes;
+            this.color = color;
+        }
+    }
+
+    /**
+     * Runs one FW-BW step on a subproblem: trims it, labels the pivot's SCC and returns the up to three remaining
+     * subproblems.
+     */
+    private List<Subproblem> split(Subproblem p, AtomicIntegerArray color, int[] component, int[] cursor, AtomicInteger nextComponent, AtomicInteger nextColor) {
+        List<Subproblem> result = new ArrayList<>(3);
+        int c = p.color;
+        if (p.nodes.length < SEQUENTIAL_THRESHOLD) {
+            kosaraju(p.nodes, c, color, component, cursor, nextComponent, nextColor);
+            return result;
+        }
+        int[] nodes = trim(p.nodes, c, color, component, nextComponent);
+        if (nodes.length == 0) return result;
+        int pivot = nodes[nodes.length >>> 1];
+
+        // Forward: everything reachable from the pivot inside the subproblem gets color fw
+        int fw = nextColor.getAndIncrement();
+        color.set(pivot, fw);
+        int[] forward = new int[nodes.length];
+        forward[0] = pivot;
+        int forwardCount = search(forward, offsets, targets, color, c, fw, -1, 0, null);
+
+        // Backward: vertices reaching the pivot are in its SCC if they were reached forward, otherwise in BW
+        int bw = nextColor.getAndIncrement();
+        int id = nextComponent.getAndIncrement();
+        color.set(pivot, DONE);
+        component[pivot] = id;
+        int[] backward = new int[nodes.length];
+        backward[0] = pivot;
+        int backwardCount = search(backward, reverseOffsets, reverseTargets, color, fw, DONE, c, bw, y -> component[y] = id);
+
+        addIfNotEmpty(result, filter(forward, forwardCount, fw, color), fw);
+        addIfNotEmpty(result, filter(backward, backwardCount, bw, color), bw);
+        addIfNotEmpty(result, filter(nodes, nodes.length, c, color), c);
+        return result;
+    }
+
+    /**
+     * Level-synchronous BFS from queue[0] over the given CSR. A vertex of color from is claimed with a CAS to color
+     * to (and reported to onClaim); if otherFrom is not -1, a vertex of color otherFrom is claimed to otherTo instead.
+     * Every level is a contiguous slice of queue, and large levels are expanded in parallel.
+     *
+     * @return the number of vertices in queue, the start vertex included
+     */
+    private int search(int[] queue, int[] offsets, int[] targets, AtomicIntegerArray color, int from, int to, int otherFrom, int otherTo, IntConsumer onClaim) {
+        AtomicInteger end = new AtomicInteger(1);
+        int start = 0;
+        while (start < end.get()) {
+            int levelFrom = start, levelTo = end.get();
+            IntStream level = IntStream.range(levelFrom, levelTo);
+            if (levelTo - levelFrom >= FRONTIER_THRESHOLD) level = level.parallel();
+            level.forEach(i -> {
+                int x = queue[i];
+                for (int j = offsets[x]; j < offsets[x + 1]; j++) {
+                    int y = targets[j];
+                    if (color.compareAndSet(y, from, to)) {
+                        if (onClaim != null) onClaim.accept(y);
+                        queue[end.getAndIncrement()] = y;
+                    } else if (otherFrom != -1 && color.compareAndSet(y, otherFrom, otherTo)) {
+                        queue[end.getAndIncrement()] = y;
+                    }
+                }
+            });
+            start = levelTo;
+        }
+        return start;
+    }
+
+    /**
+     * @return the vertices of nodes[0..count) that carry color c
+     */
+    private static int[] filter(int[] nodes, int count, int c, AtomicIntegerArray color) {
+        return IntStream.range(0, count).parallel().map(i -> nodes[i]).filter(v -> color.get(v) == c).toArray();
+    }
+
+    private static void addIfNotEmpty(List<Subproblem> list, int[] nodes, int c) {
+        if (nodes.length > 0) list.add(new Subproblem(nodes, c));
+    }
+
+    /**
+     * Iterative Kosaraju restricted to the given vertices, all of which carry color c.
+     */
+    private void kosaraju(int[] nodes, int c, AtomicIntegerArray color, int[] component, int[] cursor, AtomicInteger nextComponent, AtomicInteger nextColor) {
+        int visited = nextColor.getAndIncrement();
+        int[] postOrder = new int[nodes.length];
+        int[] stack = new int[nodes.length];
+        int finished = 0;
+
+        // First pass: post-order of a DFS over the graph
+        for (int start : nodes) {
+            if (color.getPlain(start) != c) continue;
+            int top = 0;
+            color.setPlain(start, visited);
+            cursor[start] = offsets[start];
+            stack[top++] = start;
+            while (top > 0) {
+                int x = stack[top - 1];
+                if (cursor[x] < offsets[x + 1]) {
+                    int y = targets[cursor[x]++];
+                    if (color.getPlain(y) == c) {
+                        color.setPlain(y, visited);
+                        cursor[y] = offsets[y];
+                        stack[top++] = y;
+                    }
+                } else {
+                    top--;
+                    postOrder[finished++] = x;
+                }
+            }
+        }
+
+        // Second pass: search the transposed graph in decreasing finish time, one SCC per search
+        for (int i = finished - 1; i >= 0; i--) {
+            int start = postOrder[i];
+            if (color.getPlain(start) != visited) continue;
+            int id = nextComponent.getAndIncrement();
+            int top = 0;
+            color.setPlain(start, DONE);
+            component[start] = id;
+            stack[top++] = start;
+            while (top > 0) {
+                int x = stack[--top];
+                for (int j = reverseOffsets[x]; j < reverseOffsets[x + 1]; j++) {
+                    int y = reverseTargets[j];
+                    if (color.getPlain(y) == visited) {
+                        color.setPlain(y, DONE);
+                        component[y] = id;
+                        stack[top++] = y;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Labels the vertices of a subproblem that have no predecessor or no successor inside it as singleton SCCs, in a
+     * few parallel passes. Removing a vertex can only expose more such vertices, so reading a neighbor that another
+     * thread just trimmed never leads to a wrong decision.
+     *
+     * @return the vertices left in the subproblem
+     */
+    private int[] trim(int[] nodes, int c, AtomicIntegerArray color, int[] component, AtomicInteger nextComponent) {
+        for (int round = 0; round < TRIM_ROUNDS; round++) {
+            int[] live = Arrays.stream(nodes).parallel().filter(v -> {
+                if (hasLiveNeighbor(v, c, offsets, targets, color) && hasLiveNeighbor(v, c, reverseOffsets, reverseTargets, color)) return true;
+                color.set(v, DONE);
+                component[v] = nextComponent.getAndIncrement();
+                return false;
+            }).toArray();
+            if (live.length == nodes.length) return live;
+            nodes = live;
+        }
+        return nodes;
+    }
+
+    private static boolean hasLiveNeighbor(int v, int c, int[] offsets, int[] targets, AtomicIntegerArray color) {
+        for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+            int y = targets[i];
+            if (y != v && color.get(y) == c) return true;
+        }
+        return false;
+    }
+
+    private static void buildCsr(int totalNodes, int[] from, int[] to, int[] offsets, int[] targets) {
+        for (int u : from) {
+            offsets[u + 1]++;
+        }
+        for (int u = 0; u < totalNodes; u++) {
+            offsets[u + 1] += offsets[u];
+        }
+        int[] fill = Arrays.copyOf(offsets, totalNodes);
+        for (int e = 0; e < from.length; e++) {
+            targets[fill[from[e]]++] = to[e];
+        }
+    }
+
+    /**
+     * @return the sources (forward) or the targets (otherwise) of all edges of the adjacency list
+     */
+    private static int[] flatten(int totalNodes, ArrayList<ArrayList<Integer>> adj, boolean sources) {
+        int edges = 0;
+        for (int u = 0; u < totalNodes; u++) {
+            edges += adj.get(u).size();
+        }
+        int[] result = new int[edges];
+        int e = 0;
+        for (int u = 0; u < totalNodes; u++) {
+            for (int v : adj.get(u)) {
+                result[e++] = sources ? u : v;
+            }
+        }
+        return result;
+    }
 }
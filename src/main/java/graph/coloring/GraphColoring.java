@@ -0,0 +1,358 @@
+package graph.coloring;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.stream.IntStream;
+
+public class GraphColoring {
+
+    private static final int NONE = -1;
+    private static final int PARALLEL_THRESHOLD = 1 << 12; // smaller worklists are colored on the calling thread
+
+    private final int totalNodes;
+    private final int[] offsets; // CSR: the neighbors of u are targets[offsets[u]..offsets[u+1])
+    private final int[] targets;
+    private final int maxDegree;
+
+    // First-fit scratch per thread: forbidden[c] == v + 1 means color c is taken by a neighbor of v
+    private final ThreadLocal<int[]> forbidden;
+
+    public static void main(String[] args) {
+        // Petersen graph: chromatic number 3
+        int totalNodes = 10;
+        ArrayList<ArrayList<Integer>> adj = new ArrayList<>();
+        for (int i = 0; i < totalNodes; i++)
+            adj.add(new ArrayList<>());
+        int[][] edges = {{0, 1}, {1, 2}, {2, 3}, {3, 4}, {4, 0}, {0, 5}, {1, 6}, {2, 7}, {3, 8}, {4, 9},
+                {5, 7}, {7, 9}, {9, 6}, {6, 8}, {8, 5}};
+        for (int[] edge : edges) {
+            adj.get(edge[0]).add(edge[1]);
+            adj.get(edge[1]).add(edge[0]);
+        }
+
+        GraphColoring obj = new GraphColoring(totalNodes, adj);
+        Coloring smallestLast = obj.smallestLast();
+        Coloring dsatur = obj.dsatur();
+        Coloring parallel = obj.parallel();
+        System.out.println("Smallest-last: " + smallestLast.count + " colors " + Arrays.toString(smallestLast.color));
+        System.out.println("DSATUR: " + dsatur.count + " colors " + Arrays.toString(dsatur.color));
+        System.out.println("Parallel: " + parallel.count + " colors " + Arrays.toString(parallel.color)
+                + ", proper: " + obj.isProper(parallel.color));
+    }
+
+    /**
+     * A proper coloring: color[v] in 0..count-1, and every edge joins different colors.
+     */
+    public static class Coloring {
+        public final int[] color;
+        public final int count;
+
+        Coloring(int[] color) {
+            this.color = color;
+            int max = NONE;
+            for (int c : color) {
+                max = Math.max(max, c);
+            }
+            this.count = max + 1;
+        }
+    }
+
+    /**
+     * Builds the engine from an undirected graph in the adjacency-list layout of `CheckBipartiteGraphBFS`
+     * (every edge listed from both ends).
+     *
+     * @param totalNodes the total number of nodes in the graph
+     * @param adj the adjacency list representing the graph
+     * @throws IllegalArgumentException if the graph has a self loop, which no coloring can satisfy
+     */
+    public GraphColoring(int totalNodes, ArrayList<ArrayList<Integer>> adj) {
+        this.totalNodes = totalNodes;
+        offsets = new int[totalNodes + 1];
+        for (int u = 0; u < totalNodes; u++) {
+            offsets[u + 1] = offsets[u] + adj.get(u).size();
+        }
+        targets = new int[offsets[totalNodes]];
+        for (int u = 0; u < totalNodes; u++) {
+            int i = offsets[u];
+            for (int v : adj.get(u)) {
+                if (v == u) throw new IllegalArgumentException("Self loop on node " + u);
+                targets[i++] = v;
+            }
+        }
+        maxDegree = computeMaxDegree();
+        forbidden = ThreadLocal.withInitial(() -> new int[maxDegree + 1]);
+    }
+
+    /**
+     * Builds the engine from an undirected edge list given as parallel primitive arrays (edge u[e] - v[e]).
+     *
+     * @param totalNodes the total number of nodes in the graph
+     * @param u one endpoint of each edge
+     * @param v the other endpoint of each edge
+     * @throws IllegalArgumentException if the graph has a self loop, which no coloring can satisfy
+     */
+    public GraphColoring(int totalNodes, int[] u, int[] v) {
+        this.totalNodes = totalNodes;
+        offsets = new int[totalNodes + 1];
+        for (int e = 0; e < u.length; e++) {
+            if (u[e] == v[e]) throw new IllegalArgumentException("Self loop on node " + u[e]);
+            offsets[u[e] + 1]++;
+            offsets[v[e] + 1]++;
+        }
+        Arrays.parallelPrefix(offsets, Integer::sum);
+        targets = new int[2 * u.length];
+        int[] fill = Arrays.copyOf(offsets, totalNodes);
+        for (int e = 0; e < u.length; e++) {
+            targets[fill[u[e]]++] = v[e];
+            targets[fill[v[e]]++] = u[e];
+        }
+        maxDegree = computeMaxDegree();
+        forbidden = ThreadLocal.withInitial(() -> new int[maxDegree + 1]);
+    }
+
+    /**
+     * Colors the graph greedily in smallest-last order.
+     *
+     * Overview:
+     * `CheckBipartiteGraphBFS` can only decide whether two colors suffice. For scheduling, any proper coloring with
+     * few colors is useful: every color class is a set of tasks without conflicts, which can run in parallel.
+     * Finding the minimum is NP-hard, so all methods here are greedy: take the nodes in some order, and give each the
+     * smallest color not used by its already colored neighbors (first fit). The order decides the quality.
+     *
+     * Intuition:
+     * Smallest-last repeatedly removes a node of minimum degree from the remaining graph, and colors in the reverse
+     * removal order. When a node gets colored, its colored neighbors are exactly those still present when it was
+     * removed, and there were at most d of them, where d is the degeneracy of the graph (the largest minimum degree
+     * seen during the removal). So at most d + 1 colors are used: 2 for forests, at most 6 for planar graphs, and
+     * never more than maxDegree + 1.
+     *
+     * Data Structures Used:
+     * - bucket queue: one doubly linked list of nodes per current degree, plus a pointer to the lowest non-empty
+     *   bucket. The pointer only moves back when a neighbor degree drops below it, i.e. at most once per edge.
+     *
+     * Time Complexity: O(V + E).
+     * Space Complexity: O(V).
+     *
+     * @return the coloring
+     */
+    public Coloring smallestLast() {
+        int[] degree = new int[totalNodes];
+        int[] head = new int[maxDegree + 1];
+        int[] next = new int[totalNodes];
+        int[] prev = new int[totalNodes];
+        Arrays.fill(head, NONE);
+        for (int x = 0; x < totalNodes; x++) {
+            degree[x] = offsets[x + 1] - offsets[x];
+            link(x, degree[x], head, next, prev);
+        }
+
+        boolean[] removed = new boolean[totalNodes];
+        int[] order = new int[totalNodes];
+        int lowest = 0;
+        for (int k = totalNodes - 1; k >= 0; k--) {
+            while (head[lowest] == NONE) lowest++;
+            int x = head[lowest];
+            unlink(x, degree[x], head, next, prev);
+            removed[x] = true;
+            order[k] = x;
+            for (int i = offsets[x]; i < offsets[x + 1]; i++) {
+                int y = targets[i];
+                if (removed[y]) continue;
+                unlink(y, degree[y], head, next, prev);
+                link(y, --degree[y], head, next, prev);
+                lowest = Math.min(lowest, degree[y]);
+            }
+        }
+        return greedy(order);
+    }
+
+    /**
+     * Colors the graph with DSATUR (Brélaz): always color next the node whose colored neighbors already use the most
+     * distinct colors (its saturation), ties broken towards higher degree.
+     *
+     * Intuition:
+     * A node with high saturation has few choices left, so it is colored before its options run out. DSATUR is exact
+     * on bipartite graphs, cycles and wheels, and usually beats static orders on dense graphs.
+     *
+     * Data Structures Used:
+     * - bucket queue by saturation with a pointer to the highest non-empty bucket. Saturations only grow by one at a
+     *   time, so the pointer moves up at most one step per increase. Nodes enter bucket 0 by ascending degree, so the
+     *   first pick in every bucket 0 round is a node of highest degree; later ties are taken last in, first out.
+     * - neighborColors[]: a BitSet per node of the colors already used around it, allocated the first time a
+     *   neighbor is colored.
+     *
+     * Time Complexity: O(V + E) bucket operations, plus the BitSet updates.
+     * Space Complexity: O(V + E / 64 * colors) in the worst case, usually O(V + E).
+     *
+     * @return the coloring
+     */
+    public Coloring dsatur() {
+        int[] color = new int[totalNodes];
+        Arrays.fill(color, NONE);
+        int[] saturation = new int[totalNodes];
+        BitSet[] neighborColors = new BitSet[totalNodes];
+        int[] head = new int[maxDegree + 2];
+        int[] next = new int[totalNodes];
+        int[] prev = new int[totalNodes];
+        Arrays.fill(head, NONE);
+
+        // Insert by ascending degree, so the head of bucket 0 has the highest degree
+        int[] byDegree = new int[maxDegree + 2];
+        for (int x = 0; x < totalNodes; x++) {
+            byDegree[offsets[x + 1] - offsets[x] + 1]++;
+        }
+        for (int d = 0; d <= maxDegree; d++) {
+            byDegree[d + 1] += byDegree[d];
+        }
+        int[] ascending = new int[totalNodes];
+        for (int x = 0; x < totalNodes; x++) {
+            ascending[byDegree[offsets[x + 1] - offsets[x]]++] = x;
+        }
+        for (int x : ascending) {
+            link(x, 0, head, next, prev);
+        }
+
+        int highest = 0;
+        for (int k = 0; k < totalNodes; k++) {
+            while (head[highest] == NONE) highest--;
+            int x = head[highest];
+            unlink(x, highest, head, next, prev);
+
+            int c = neighborColors[x] == null ? 0 : neighborColors[x].nextClearBit(0);
+            color[x] = c;
+            neighborColors[x] = null; // no longer needed
+
+            for (int i = offsets[x]; i < offsets[x + 1]; i++) {
+                int y = targets[i];
+                if (color[y] != NONE) continue;
+                if (neighborColors[y] == null) neighborColors[y] = new BitSet();
+                if (neighborColors[y].get(c)) continue;
+                neighborColors[y].set(c);
+                unlink(y, saturation[y], head, next, prev);
+                link(y, ++saturation[y], head, next, prev);
+                highest = Math.max(highest, saturation[y]);
+            }
+        }
+        return new Coloring(color);
+    }
+
+    /**
+     * Colors the graph in parallel with speculative coloring and conflict repair (Gebremedhin–Manne).
+     *
+     * Intuition:
+     * All nodes of the worklist pick their first-fit color at the same time, reading whatever colors their
+     * neighbors have at that moment. Two adjacent nodes colored concurrently may pick the same color; after the
+     * round, every such conflict is found in parallel and the endpoint with the larger id goes back into the
+     * worklist, while the other keeps its color. The smallest node of every worklist always keeps its color, so the
+     * worklist shrinks every round; in practice a handful of rounds suffices, and conflicts are few because a node
+     * only races with neighbors that are colored at the same moment.
+     *
+     * Algorithm Description:
+     * 1. worklist = all nodes.
+     * 2. Tentative coloring: in parallel over the worklist, color[v] = first fit over the current neighbor colors.
+     * 3. Conflict detection: in parallel, keep v in the worklist if a neighbor w < v has the same color.
+     * 4. Repeat until the worklist is empty. Worklists below PARALLEL_THRESHOLD are colored sequentially, which
+     *    cannot produce conflicts and ends the loop.
+     *
+     * Data Structures Used:
+     * - color[] is written by one thread per node and read racily by neighbors; a stale read can only cause a
+     *   conflict, which step 3 sees after the round has completed
+     * - per-thread forbidden[] scratch stamped with v + 1, so it never has to be cleared
+     *
+     * Time Complexity: O(V + E) work per round; the number of rounds is small and bounded by V.
+     * Space Complexity: O(V) plus O(maxDegree) per thread.
+     * Limitations:
+     * - The result depends on thread timing, but the number of colors never exceeds maxDegree + 1.
+     *
+     * @return the coloring
+     */
+    public Coloring parallel() {
+        int[] color = new int[totalNodes];
+        Arrays.fill(color, NONE);
+        int[] worklist = IntStream.range(0, totalNodes).toArray();
+        while (worklist.length > 0) {
+            if (worklist.length < PARALLEL_THRESHOLD) {
+                for (int v : worklist) {
+                    color[v] = firstFit(v, color);
+                }
+                break;
+            }
+            int[] current = worklist;
+            IntStream.range(0, current.length).parallel().forEach(i -> color[current[i]] = firstFit(current[i], color));
+            worklist = Arrays.stream(current).parallel().filter(v -> hasConflict(v, color)).toArray();
+        }
+        return new Coloring(color);
+    }
+
+    /**
+     * @return true if color assigns every node a color and no edge joins two nodes of the same color
+     */
+    public boolean isProper(int[] color) {
+        return IntStream.range(0, totalNodes).parallel()
+                .allMatch(v -> color[v] >= 0 && !hasConflictWithAny(v, color));
+    }
+
+    /**
+     * Colors the nodes first fit in the given order.
+     */
+    private Coloring greedy(int[] order) {
+        int[] color = new int[totalNodes];
+        Arrays.fill(color, NONE);
+        for (int v : order) {
+            color[v] = firstFit(v, color);
+        }
+        return new Coloring(color);
+    }
+
+    /**
+     * @return the smallest color not used by a colored neighbor of v; at most deg(v) <= maxDegree
+     */
+    private int firstFit(int v, int[] color) {
+        int[] taken = forbidden.get();
+        int stamp = v + 1;
+        for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+            int c = color[targets[i]];
+            if (c != NONE) taken[c] = stamp;
+        }
+        int c = 0;
+        while (taken[c] == stamp) c++;
+        return c;
+    }
+
+    private boolean hasConflict(int v, int[] color) {
+        for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+            int w = targets[i];
+            if (w < v && color[w] == color[v]) return true;
+        }
+        return false;
+    }
+
+    private boolean hasConflictWithAny(int v, int[] color) {
+        for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+            if (color[targets[i]] == color[v]) return true;
+        }
+        return false;
+    }
+
+    private int computeMaxDegree() {
+        int max = 0;
+        for (int x = 0; x < totalNodes; x++) {
+            max = Math.max(max, offsets[x + 1] - offsets[x]);
+        }
+        return max;
+    }
+
+    private static void link(int x, int bucket, int[] head, int[] next, int[] prev) {
+        prev[x] = NONE;
+        next[x] = head[bucket];
+        if (head[bucket] != NONE) prev[head[bucket]] = x;
+        head[bucket] = x;
+    }
+
+    private static void unlink(int x, int bucket, int[] head, int[] next, int[] prev) {
+        if (prev[x] != NONE) next[prev[x]] = next[x];
+        else head[bucket] = next[x];
+        if (next[x] != NONE) prev[next[x]] = prev[x];
+    }
+}
@@ -0,0 +1,121 @@
+package graph.mst;
+
+import graph.unionFind.ConcurrentUnionFind;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+public class Boruvka {
+
+    public static void main(String[] args) {
+        int totalNodes = 5;
+
+        // Same graph as Kruskal.main, as parallel primitive arrays (edge id = index)
+        int[] u = {0, 0, 1, 1, 1, 2};
+        int[] v = {1, 3, 3, 2, 4, 4};
+        int[] w = {2, 6, 8, 3, 5, 7};
+
+        MstResult mst = findMst(totalNodes, u, v, w);
+        for (int id : mst.edges) {
+            System.out.println(u[id] + " -> " + v[id]);
+        }
+        System.out.println("Cost of MST: " + mst.cost);
+    }
+
+    /**
+     * Finds the Minimum Spanning Tree (MST) using a parallel version of Borůvka's algorithm.
+     *
+     * Overview:
+     * Kruskal and Prim grow the MST one edge at a time, so they are inherently sequential. Borůvka instead lets every
+     * component pick its cheapest outgoing edge at the same time, adds all of those edges, and contracts.
+     * Every step of a round is independent per edge or per vertex, so the whole round runs in parallel.
+     *
+     * Intuition:
+     * By the cut property, the cheapest edge leaving any component belongs to the MST, so all of them can be added in
+     * one go. Each round at least halves the number of components, so there are at most O(log V) rounds.
+     * The cut property needs a strict order on edges; otherwise two components could pick different edges of the same
+     * weight and close a cycle. Edges are therefore compared by (weight, edge id), which makes the MST unique and
+     * identical to the one `Kruskal.findMst` returns (its stable sort breaks ties by input order too).
+     *
+     * Data Structures Used:
+     * - comp[]: the component (union-find root) of every vertex at the start of a round
+     * - best: per-component cheapest outgoing edge, updated with a compare-and-set loop
+     * - ConcurrentUnionFind (AtomicIntegerArray, CAS linking by index) to merge components from many threads
+     * - active[]: ids of the edges that still connect two different components
+     *
+     * Algorithm Description (one round):
+     * 1. In parallel over active edges, offer each edge to both endpoint components as their cheapest edge.
+     * 2. In parallel over components, add the chosen edge (once, if both sides chose the same edge) and union.
+     * 3. In parallel over vertices, refresh comp[] from the union-find (contraction).
+     * 4. In parallel over active edges, drop those that became internal to a component.
+     * Stop when no component has an outgoing edge.
+     *
+     * Time Complexity: O(E log V) work, O(log V) rounds each with O((V + E) / P) span on P cores.
+     * Space Complexity: O(V + E).
+     * Edge Cases:
+     * - In the case of a disconnected graph, the result is a Minimum Spanning Forest.
+     * - Self loops are ignored.
+     *
+     * @param totalNodes the total number of nodes in the graph
+     * @param u the first endpoint of each edge
+     * @param v the second endpoint of each edge
+     * @param w the weight of each edge
+     * @return the ids of the MST edges (grouped by round, ascending id within a round) and the total cost
+     */
+    public static MstResult findMst(int totalNodes, int[] u, int[] v, int[] w) {
+        ConcurrentUnionFind dsu = new ConcurrentUnionFind(totalNodes);
+        int[] comp = IntStream.range(0, totalNodes).toArray();
+        int[] active = IntStream.range(0, w.length).parallel().filter(e -> u[e] != v[e]).toArray();
+        AtomicIntegerArray best = new AtomicIntegerArray(totalNodes);
+
+        int[] mstEdges = new int[Math.max(0, totalNodes - 1)];
+        int accepted = 0;
+        long cost = 0;
+
+        while (active.length > 0) {
+            IntStream.range(0, totalNodes).parallel().forEach(x -> best.set(x, -1));
+
+            // 1. Cheapest outgoing edge of every component
+            int[] edges = active;
+            IntStream.range(0, edges.length).parallel().forEach(i -> {
+                int e = edges[i];
+                offer(best, comp[u[e]], e, w);
+                offer(best, comp[v[e]], e, w);
+            });
+
+            // 2. Add the chosen edges; when two components chose each other's edge, the smaller one adds it
+            int[] chosen = IntStream.range(0, totalNodes).parallel().filter(x -> {
+                if (comp[x] != x || best.get(x) == -1) return false;
+                int e = best.get(x);
+                int other = comp[u[e]] == x ? comp[v[e]] : comp[u[e]];
+                return best.get(other) != e || x < other;
+            }).map(best::get).sorted().toArray();
+            if (chosen.length == 0) break;
+
+            IntStream.of(chosen).parallel().forEach(e -> dsu.union(u[e], v[e]));
+            for (int e : chosen) {
+                mstEdges[accepted++] = e;
+                cost += w[e];
+            }
+
+            // 3. Contract: relabel every vertex with its new root
+            IntStream.range(0, totalNodes).parallel().forEach(x -> comp[x] = dsu.find(x));
+
+            // 4. Keep only edges between different components
+            active = IntStream.of(edges).parallel().filter(e -> comp[u[e]] != comp[v[e]]).toArray();
+        }
+        return new MstResult(Arrays.copyOf(mstEdges, accepted), cost);
+    }
+
+    /**
+     * Makes e the cheapest edge of component c if it beats the current one, with a compare-and-set loop.
+     */
+    private static void offer(AtomicIntegerArray best, int c, int e, int[] w) {
+        while (true) {
+            int current = best.get(c);
+            if (current != -1 && (w[current] < w[e] || (w[current] == w[e] && current < e))) return;
+            if (best.compareAndSet(c, current, e)) return;
+        }
+    }
+}
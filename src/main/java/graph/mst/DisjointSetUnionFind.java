@@ -58,13 +58,24 @@ public class DisjointSetUnionFind {
     /**
      * Finds the representative (or parent) of the set that the node belongs to.
      * Uses path compression to make the tree flatter and the operations faster.
+     * Written as two loops instead of recursion, so a long chain cannot overflow the stack.
+     * See graph.unionFind.UnionFind for the shared implementation using path halving.
      *
      * @param node the node to find the parent of
      * @return the representative of the set
      */
     int findParent(int node) {
-        if (node == parent[node]) return node;
-        return parent[node] = findParent(parent[node]); // Path compression
+        int root = node;
+        while (root != parent[root]) {
+            root = parent[root];
+        }
+        // Path compression: point every node on the path directly at the root
+        while (node != root) {
+            int next = parent[node];
+            parent[node] = root;
+            node = next;
+        }
+        return root;
     }
 
     /**
@@ -0,0 +1,360 @@
+package graph.mst;
+
+import graph.unionFind.UnionFind;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class ExternalKruskal {
+
+    /** Size of one edge record on disk: three little-endian ints (u, v, w). */
+    public static final int RECORD_BYTES = 12;
+
+    private static final int MIN_READ_BUFFER = 64 * RECORD_BYTES;
+
+    public static void main(String[] args) throws IOException {
+        int totalNodes = 5;
+
+        // Same graph as Kruskal.main, written to a binary edge file
+        int[] u = {0, 0, 1, 1, 1, 2};
+        int[] v = {1, 3, 3, 2, 4, 4};
+        int[] w = {2, 6, 8, 3, 5, 7};
+        Path edgeFile = Files.createTempFile("edges-", ".bin");
+        writeEdges(edgeFile, u, v, w);
+
+        // A tiny memory budget forces several sorted runs and a real k-way merge
+        ExternalMst mst = findMst(totalNodes, edgeFile, 4 * RECORD_BYTES, edgeFile.getParent());
+        for (int i = 0; i < mst.u.length; i++) {
+            System.out.println(mst.u[i] + " -> " + mst.v[i]);
+        }
+        System.out.println("Cost of MST: " + mst.cost);
+        Files.delete(edgeFile);
+    }
+
+    /**
+     * Finds the Minimum Spanning Tree (MST) of an edge list that does not fit in memory, using external-memory Kruskal.
+     *
+     * Overview:
+     * `Kruskal.findMst` needs the whole edge list as an in-memory `ArrayList<Edge>`. Here the edges stay on disk in a
+     * binary file of (u, v, w) little-endian int records. They are sorted with an external merge sort, and the final
+     * merge pass feeds the union-find scan directly, so the fully sorted edge list is never written out.
+     *
+     * Intuition:
+     * Kruskal only needs to see the edges once, in increasing weight order. An external merge sort produces exactly
+     * that stream: first cut the file into runs that fit the memory budget and sort each one, then merge all runs.
+     * Instead of writing the merged output, every merged edge goes straight to the union-find, and the merge stops as
+     * soon as V - 1 edges have been accepted.
+     *
+     * Memory:
+     * - Run buffers and merge read buffers are direct (off-heap) ByteBuffers whose total size is the memory budget.
+     * - Runs are sorted with an LSD radix sort on the weight, from one half of the budget into the other half.
+     * - Only the O(V) union-find (one packed int[]) and the V - 1 result edges live on the Java heap.
+     *
+     * Algorithm Description:
+     * 1. Fill half of the budget with records read through a FileChannel, radix sort them by weight, spill the run
+     *    to a temp file. Repeat until the input is exhausted (a single run is scanned without spilling).
+     * 2. Cut the two run buffers into one read buffer per run (budget / runs bytes each) and keep the head record of each run in a binary
+     *    heap ordered by (weight, run index).
+     * 3. Pop the lightest head, offer it to the union-find, refill from its run. Stop after V - 1 accepted edges.
+     *
+     * Ties: runs are cut in file order, radix sort is stable and the merge breaks ties by run index, so equal weights
+     * are processed in file order, the same tie-breaking as `Kruskal.findMst` and `KruskalRadix.findMst`.
+     *
+     * Time Complexity: O(E log E) comparisons for the merge, O(E) for run sorting; two sequential passes over the data.
+     * Space Complexity: O(V) heap memory plus the off-heap budget and O(E) temp disk space.
+     * Edge Cases:
+     * - In the case of a disconnected graph, the result is a Minimum Spanning Forest.
+     *
+     * @param totalNodes the total number of nodes in the graph
+     * @param edgeFile binary file of (u, v, w) little-endian int records
+     * @param memoryBudgetBytes total bytes of off-heap buffers to use for sorting and merging
+     * @param tempDir directory for the sorted run files
+     * @return the MST edges and the total cost
+     * @throws IOException if reading the input or writing the runs fails
+     */
+    public static ExternalMst findMst(int totalNodes, Path edgeFile, long memoryBudgetBytes, Path tempDir) throws IOException {
+        long halfBudget = Math.min(memoryBudgetBytes / 2, Integer.MAX_VALUE);
+        int runBytes = (int) Math.max(RECORD_BYTES, halfBudget - halfBudget % RECORD_BYTES);
+        ByteBuffer runBuffer = ByteBuffer.allocateDirect(runBytes).order(ByteOrder.LITTLE_ENDIAN);
+        ByteBuffer sortBuffer = ByteBuffer.allocateDirect(runBytes).order(ByteOrder.LITTLE_ENDIAN);
+
+        Scan scan = new Scan(totalNodes);
+        List<Path> runs = new ArrayList<>();
+        try {
+            try (FileChannel in = FileChannel.open(edgeFile, StandardOpenOption.READ)) {
+                boolean firstRun = true;
+                while (true) {
+                    runBuffer.clear();
+                    while (runBuffer.hasRemaining() && in.read(runBuffer) != -1) {
+                        // keep reading until the run buffer is full or the file ends
+                    }
+                    runBuffer.flip();
+                    int records = runBuffer.remaining() / RECORD_BYTES;
+                    if (records == 0) break;
+
+                    ByteBuffer sorted = sortRun(runBuffer, sortBuffer, records);
+                    if (firstRun && in.position() == in.size()) {
+                        // Everything fit into one run: scan it directly, no spilling needed
+                        for (int i = 0; i < records && !scan.isComplete(); i++) {
+                            int base = i * RECORD_BYTES;
+                            scan.offer(sorted.getInt(base), sorted.getInt(base + 4), sorted.getInt(base + 8));
+                        }
+                        return scan.result();
+                    }
+                    firstRun = false;
+
+                    Path run = Files.createTempFile(tempDir, "kruskal-run-", ".bin");
+                    runs.add(run);
+                    try (FileChannel out = FileChannel.open(run, StandardOpenOption.WRITE)) {
+                        sorted.position(0).limit(records * RECORD_BYTES);
+                        while (sorted.hasRemaining()) out.write(sorted);
+                    }
+                }
+            }
+            mergeRuns(runs, runBuffer, sortBuffer, scan);
+            return scan.result();
+        } finally {
+            for (Path run : runs) {
+                Files.deleteIfExists(run);
+            }
+        }
+    }
+
+    /**
+     * Writes an edge list in the binary format read by findMst.
+     *
+     * @param edgeFile the file to (over)write
+     * @param u the first endpoint of each edge
+     * @param v the second endpoint of each edge
+     * @param w the weight of each edge
+     * @throws IOException if writing fails
+     */
+    public static void writeEdges(Path edgeFile, int[] u, int[] v, int[] w) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(MIN_READ_BUFFER * 16).order(ByteOrder.LITTLE_ENDIAN);
+        try (FileChannel out = FileChannel.open(edgeFile, StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (int i = 0; i < w.length; i++) {
+                if (buffer.remaining() < RECORD_BYTES) {
+                    buffer.flip();
+                    while (buffer.hasRemaining()) out.write(buffer);
+                    buffer.clear();
+                }
+                buffer.putInt(u[i]).putInt(v[i]).putInt(w[i]);
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) out.write(buffer);
+        }
+    }
+
+    /**
+     * Stable LSD radix sort of the records by weight, 8 bits per pass, ping-ponging between the two buffers.
+     * Passes over weight bytes that are the same in every record are skipped.
+     *
+     * @return the buffer holding the sorted records
+     */
+    private static ByteBuffer sortRun(ByteBuffer records, ByteBuffer scratch, int count) {
+        scratch.clear(); // may still carry the position / limit of the previous run's write
+        IntBuffer src = records.asIntBuffer();
+        IntBuffer dst = scratch.asIntBuffer();
+        ByteBuffer srcBytes = records, dstBytes = scratch;
+
+        int orBits = 0, andBits = -1;
+        for (int i = 0; i < count; i++) {
+            int w = src.get(3 * i + 2);
+            orBits |= w;
+            andBits &= w;
+        }
+        int varying = orBits ^ andBits;
+
+        int[] bucketStart = new int[256];
+        for (int shift = 0; shift < 32; shift += 8) {
+            if (((varying >>> shift) & 0xFF) == 0) continue;
+            // Flipping the sign bit turns signed weight order into unsigned bucket order
+            int flip = shift == 24 ? 0x80 : 0;
+
+            Arrays.fill(bucketStart, 0);
+            for (int i = 0; i < count; i++) {
+                bucketStart[((src.get(3 * i + 2) >>> shift) & 0xFF) ^ flip]++;
+            }
+            for (int b = 0, sum = 0; b < 256; b++) {
+                int c = bucketStart[b];
+                bucketStart[b] = sum;
+                sum += c;
+            }
+            for (int i = 0; i < count; i++) {
+                int w = src.get(3 * i + 2);
+                int j = 3 * bucketStart[((w >>> shift) & 0xFF) ^ flip]++;
+                dst.put(j, src.get(3 * i));
+                dst.put(j + 1, src.get(3 * i + 1));
+                dst.put(j + 2, w);
+            }
+
+            IntBuffer tmp = src;
+            src = dst;
+            dst = tmp;
+            ByteBuffer tmpBytes = srcBytes;
+            srcBytes = dstBytes;
+            dstBytes = tmpBytes;
+        }
+        return srcBytes;
+    }
+
+    /**
+     * k-way merge of the sorted runs straight into the Kruskal scan.
+     * The two run buffers are no longer needed at this point, so they are cut into the per-run read buffers.
+     */
+    private static void mergeRuns(List<Path> runs, ByteBuffer first, ByteBuffer second, Scan scan) throws IOException {
+        first.clear();
+        second.clear();
+        int k = runs.size();
+        int slicesPerBuffer = (k + 1) / 2;
+        int readBytes = first.capacity() / slicesPerBuffer;
+        readBytes -= readBytes % RECORD_BYTES;
+
+        FileChannel[] channels = new FileChannel[k];
+        ByteBuffer[] buffers = new ByteBuffer[k];
+        int[] headU = new int[k], headV = new int[k], headW = new int[k];
+        int[] heap = new int[k]; // run indices ordered by (headW, run index)
+        int heapSize = 0;
+
+        try {
+            for (int r = 0; r < k; r++) {
+                channels[r] = FileChannel.open(runs.get(r), StandardOpenOption.READ);
+                if (readBytes >= RECORD_BYTES) {
+                    ByteBuffer pool = r < slicesPerBuffer ? first : second;
+                    buffers[r] = pool.slice((r % slicesPerBuffer) * readBytes, readBytes).order(ByteOrder.LITTLE_ENDIAN);
+                } else {
+                    // Budget too small to give every run a record: go over budget rather than fail
+                    buffers[r] = ByteBuffer.allocateDirect(MIN_READ_BUFFER).order(ByteOrder.LITTLE_ENDIAN);
+                }
+                buffers[r].limit(0);
+                if (advance(r, channels, buffers, headU, headV, headW)) {
+                    heap[heapSize] = r;
+                    siftUp(heap, heapSize++, headW);
+                }
+            }
+
+            while (heapSize > 0 && !scan.isComplete()) {
+                int r = heap[0];
+                scan.offer(headU[r], headV[r], headW[r]);
+                if (!advance(r, channels, buffers, headU, headV, headW)) {
+                    heap[0] = heap[--heapSize];
+                }
+                if (heapSize > 0) siftDown(heap, 0, heapSize, headW);
+            }
+        } finally {
+            for (FileChannel channel : channels) {
+                if (channel != null) channel.close();
+            }
+        }
+    }
+
+    /**
+     * Loads the next record of run r into the head arrays, refilling its buffer from disk when it runs dry.
+     *
+     * @return false if the run is exhausted
+     */
+    private static boolean advance(int r, FileChannel[] channels, ByteBuffer[] buffers, int[] headU, int[] headV, int[] headW) throws IOException {
+        ByteBuffer buffer = buffers[r];
+        if (buffer.remaining() < RECORD_BYTES) {
+            buffer.compact();
+            while (buffer.position() < RECORD_BYTES && channels[r].read(buffer) != -1) {
+                // keep reading until at least one full record is buffered
+            }
+            buffer.flip();
+            if (buffer.remaining() < RECORD_BYTES) return false;
+        }
+        headU[r] = buffer.getInt();
+        headV[r] = buffer.getInt();
+        headW[r] = buffer.getInt();
+        return true;
+    }
+
+    private static boolean lighter(int a, int b, int[] headW) {
+        return headW[a] < headW[b] || (headW[a] == headW[b] && a < b);
+    }
+
+    private static void siftUp(int[] heap, int i, int[] headW) {
+        int run = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!lighter(run, heap[parent], headW)) break;
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = run;
+    }
+
+    private static void siftDown(int[] heap, int i, int size, int[] headW) {
+        int run = heap[i];
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= size) break;
+            if (child + 1 < size && lighter(heap[child + 1], heap[child], headW)) child++;
+            if (!lighter(heap[child], run, headW)) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = run;
+    }
+
+    /**
+     * The Kruskal scan: union-find plus the accepted edges.
+     */
+    private static class Scan {
+        private final UnionFind dsu;
+        private final int[] mstU, mstV, mstW;
+        private int accepted;
+        private long cost;
+
+        Scan(int totalNodes) {
+            dsu = UnionFind.packed(totalNodes);
+            int capacity = Math.max(0, totalNodes - 1);
+            mstU = new int[capacity];
+            mstV = new int[capacity];
+            mstW = new int[capacity];
+        }
+
+        boolean isComplete() {
+            return accepted == mstU.length;
+        }
+
+        void offer(int u, int v, int w) {
+            if (!dsu.union(u, v)) return;
+            mstU[accepted] = u;
+            mstV[accepted] = v;
+            mstW[accepted] = w;
+            accepted++;
+            cost += w;
+        }
+
+        ExternalMst result() {
+            return new ExternalMst(Arrays.copyOf(mstU, accepted), Arrays.copyOf(mstV, accepted), Arrays.copyOf(mstW, accepted), cost);
+        }
+    }
+
+    /**
+     * MST edges as endpoint / weight arrays in acceptance order, and the total cost.
+     */
+    public static class ExternalMst {
+        public final int[] u;
+        public final int[] v;
+        public final int[] w;
+        public final long cost;
+
+        ExternalMst(int[] u, int[] v, int[] w, long cost) {
+            this.u = u;
+            this.v = v;
+            this.w = w;
+            this.cost = cost;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package graph.mst;
+
+import graph.unionFind.UnionFind;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+public class FilterKruskal {
+
+    private static final int BASE_CASE_SIZE = 1 << 14;       // below this, sort and scan directly
+    private static final int PARALLEL_THRESHOLD = 1 << 16;   // below this, partition / filter sequentially
+
+    private final int[] u;
+    private final int[] v;
+    private final int[] w;
+    private final long[] keys;   // packed (weight, edge id), see KruskalRadix.packKey
+    private final long[] buffer; // scratch space for sorting, partitioning and filtering
+    private final UnionFind dsu;
+    private final int[] mstEdges;
+    private final int chunks;
+    private final SplittableRandom random = new SplittableRandom(42);
+    private int accepted;
+    private long cost;
+
+    public static void main(String[] args) {
+        int totalNodes = 5;
+
+        // Same graph as Kruskal.main, as parallel primitive arrays (edge id = index)
+        int[] u = {0, 0, 1, 1, 1, 2};
+        int[] v = {1, 3, 3, 2, 4, 4};
+        int[] w = {2, 6, 8, 3, 5, 7};
+
+        MstResult mst = findMst(totalNodes, u, v, w);
+        for (int id : mst.edges) {
+            System.out.println(u[id] + " -> " + v[id]);
+        }
+        System.out.println("Cost of MST: " + mst.cost);
+    }
+
+    /**
+     * Finds the Minimum Spanning Tree (MST) using Filter-Kruskal.
+     *
+     * Overview:
+     * Kruskal sorts all E edges even though only V - 1 of them end up in the MST. On dense graphs most edges are
+     * rejected, so most of that sorting is wasted. Filter-Kruskal only sorts what it has to.
+     *
+     * Intuition:
+     * Like quicksort, the edges are partitioned around a pivot into a light half and a heavy half.
+     * The light half is handled first (recursively), which builds up the union-find components.
+     * Before the heavy half is touched, every heavy edge whose endpoints are already connected is filtered out:
+     * Kruskal would reject it anyway. On dense graphs the heavy halves shrink dramatically before they are ever sorted.
+     * Small ranges fall back to a radix sort followed by the ordinary Kruskal scan.
+     *
+     * Edges are compared by the packed (weight, edge id) key from KruskalRadix, a strict total order that matches
+     * the stable sort in `Kruskal.findMst`. The pivot choice therefore never changes the answer: the result is the
+     * same MST as `Kruskal.findMst` and `KruskalRadix.findMst`.
+     *
+     * Parallelism:
+     * Partitioning and filtering of large ranges split the range into chunks. Each chunk counts its survivors in
+     * parallel, a prefix sum gives every chunk its output offset, and the chunks then scatter in parallel.
+     * Filtering only reads the union-find (no path compression), so it is safe to run while no union happens.
+     *
+     * Data Structures Used:
+     * - keys[]: packed (weight, edge id) longs; buffer[]: scratch space of the same size
+     * - UnionFind in its packed single-array layout; the parallel filter uses its findWithoutCompression
+     *
+     * Time Complexity: O(E + V log V log(E / V)) expected for random weights, O(E log E) in the worst case.
+     * Space Complexity: O(V + E).
+     * Edge Cases:
+     * - In the case of a disconnected graph, the result is a Minimum Spanning Forest.
+     *
+     * @param totalNodes the total number of nodes in the graph
+     * @param u the first endpoint of each edge
+     * @param v the second endpoint of each edge
+     * @param w the weight of each edge
+     * @return the ids of the MST edges and the total cost
+     */
+    public static MstResult findMst(int totalNodes, int[] u, int[] v, int[] w) {
+        FilterKruskal obj = new FilterKruskal(totalNodes, u, v, w);
+        obj.filterKruskal(0, w.length);
+        return new MstResult(Arrays.copyOf(obj.mstEdges, obj.accepted), obj.cost);
+    }
+
+    private FilterKruskal(int totalNodes, int[] u, int[] v, int[] w) {
+        this.u = u;
+        this.v = v;
+        this.w = w;
+        this.keys = new long[w.length];
+        this.buffer = new long[w.length];
+        for (int i = 0; i < w.length; i++) {
+            keys[i] = KruskalRadix.packKey(w[i], i);
+        }
+        this.dsu = UnionFind.packed(totalNodes);
+        this.mstEdges = new int[Math.max(0, totalNodes - 1)];
+        this.chunks = 4 * Runtime.getRuntime().availableProcessors();
+    }
+
+    private void filterKruskal(int from, int to) {
+        if (accepted == mstEdges.length || from >= to) return;
+
+        if (to - from <= BASE_CASE_SIZE) {
+            KruskalRadix.radixSort(keys, from, to, buffer, 0);
+            scan(from, to);
+            return;
+        }
+
+        long pivot = choosePivot(from, to);
+        int split = partition(from, to, pivot, true);
+        if (split == to) {
+            // The pivot was the maximum: put it alone on the heavy side so both halves shrink
+            split = partition(from, to, pivot, false);
+        }
+
+        filterKruskal(from, split);
+        if (accepted == mstEdges.length) return;
+        int end = filter(split, to);
+        filterKruskal(split, end);
+    }
+
+    /**
+     * Median of three random keys of the range.
+     */
+    private long choosePivot(int from, int to) {
+        long a = keys[from + random.nextInt(to - from)];
+        long b = keys[from + random.nextInt(to - from)];
+        long c = keys[from + random.nextInt(to - from)];
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    /**
+     * Kruskal scan over an already sorted range.
+     */
+    private void scan(int from, int to) {
+        for (int i = from; i < to && accepted < mstEdges.length; i++) {
+            int id = KruskalRadix.edgeId(keys[i]);
+            if (!dsu.union(u[id], v[id])) continue;
+
+            mstEdges[accepted++] = id;
+            cost += w[id];
+        }
+    }
+
+    /**
+     * Moves the light keys (<= pivot, or < pivot if inclusive is false) to the front of the range.
+     *
+     * @return the index of the first heavy key
+     */
+    private int partition(int from, int to, long pivot, boolean inclusive) {
+        if (to - from < PARALLEL_THRESHOLD) {
+            int light = from;
+            for (int i = from; i < to; i++) {
+                long key = keys[i];
+                if (inclusive ? key <= pivot : key < pivot) {
+                    keys[i] = keys[light];
+                    keys[light++] = key;
+                }
+            }
+            return light;
+        }
+
+        int n = to - from;
+        int chunkSize = (n + chunks - 1) / chunks;
+        int[] lightCount = new int[chunks];
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int start = from + c * chunkSize, end = Math.min(to, start + chunkSize);
+            int count = 0;
+            for (int i = start; i < end; i++) {
+                if (inclusive ? keys[i] <= pivot : keys[i] < pivot) count++;
+            }
+            lightCount[c] = count;
+        });
+
+        int[] lightOffset = new int[chunks];
+        int[] heavyOffset = new int[chunks];
+        int totalLight = 0;
+        for (int c = 0; c < chunks; c++) {
+            lightOffset[c] = totalLight;
+            totalLight += lightCount[c];
+        }
+        for (int c = 0, heavy = totalLight; c < chunks; c++) {
+            heavyOffset[c] = heavy;
+            int start = c * chunkSize;
+            heavy += Math.max(0, Math.min(n, start + chunkSize) - start) - lightCount[c];
+        }
+
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int start = from + c * chunkSize, end = Math.min(to, start + chunkSize);
+            int light = lightOffset[c], heavy = heavyOffset[c];
+            for (int i = start; i < end; i++) {
+                long key = keys[i];
+                if (inclusive ? key <= pivot : key < pivot) buffer[light++] = key;
+                else buffer[heavy++] = key;
+            }
+        });
+        copyBack(from, n, chunkSize);
+        return from + totalLight;
+    }
+
+    /**
+     * Compacts the range, dropping every edge whose endpoints are already in the same component.
+     *
+     * @return the new end of the range
+     */
+    private int filter(int from, int to) {
+        if (to - from < PARALLEL_THRESHOLD) {
+            int kept = from;
+            for (int i = from; i < to; i++) {
+                int id = KruskalRadix.edgeId(keys[i]);
+                if (!dsu.connected(u[id], v[id])) keys[kept++] = keys[i];
+            }
+            return kept;
+        }
+
+        int n = to - from;
+        int chunkSize = (n + chunks - 1) / chunks;
+        int[] keptCount = new int[chunks];
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int start = from + c * chunkSize, end = Math.min(to, start + chunkSize);
+            int kept = c * chunkSize; // each chunk compacts into its own slice of the buffer
+            for (int i = start; i < end; i++) {
+                int id = KruskalRadix.edgeId(keys[i]);
+                if (dsu.findWithoutCompression(u[id]) != dsu.findWithoutCompression(v[id])) buffer[kept++] = keys[i];
+            }
+            keptCount[c] = kept - c * chunkSize;
+        });
+
+        int[] offset = new int[chunks];
+        int total = 0;
+        for (int c = 0; c < chunks; c++) {
+            offset[c] = total;
+            total += keptCount[c];
+        }
+
+        // Gather the compacted slices at the front of the range
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            if (keptCount[c] > 0) System.arraycopy(buffer, c * chunkSize, keys, from + offset[c], keptCount[c]);
+        });
+        return from + total;
+    }
+
+    private void copyBack(int from, int n, int chunkSize) {
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int start = c * chunkSize, end = Math.min(n, start + chunkSize);
+            if (start < end) System.arraycopy(buffer, start, keys, from + start, end - start);
+        });
+    }
+}
@@ -0,0 +1,327 @@
+package graph.mst;
+
+import java.util.Arrays;
+
+public class IncrementalMst {
+
+    private static final int NONE = -1;
+
+    private final int totalNodes;
+
+    // Link-cut tree over nodes: 0..totalNodes-1 are graph vertices, the rest are forest edges
+    private int[] left;
+    private int[] right;
+    private int[] parent;    // splay parent, or path-parent if this node is the root of its splay tree
+    private boolean[] reversed;
+    private int[] weight;    // edge weight; Integer.MIN_VALUE for vertex nodes so they never win a max
+    private int[] maxNode;   // node with the largest weight in this splay subtree
+
+    // Forest edge bookkeeping, indexed by edge node
+    private int[] edgeId;
+    private int[] endpointU;
+    private int[] endpointV;
+    private int[] freeNodes; // recycled edge nodes
+    private int freeCount;
+    private int nodeCount;
+
+    private int[] splayStack = new int[64];
+    private int insertedEdges;
+    private int forestSize;
+    private long cost;
+
+    public static void main(String[] args) {
+        IncrementalMst mst = new IncrementalMst(5);
+
+        // Same edges as Kruskal.main, arriving one at a time in an arbitrary order
+        int[][] stream = {{1, 3, 8}, {0, 3, 6}, {2, 4, 7}, {0, 1, 2}, {1, 4, 5}, {1, 2, 3}};
+        for (int[] edge : stream) {
+            int removed = mst.addEdge(edge[0], edge[1], edge[2]);
+            System.out.println("Added " + edge[0] + " - " + edge[1] + " (" + edge[2] + ")"
+                    + (removed == NONE ? "" : ", edge #" + removed + " left the forest")
+                    + ", cost now " + mst.cost());
+        }
+        System.out.println("Forest edges: " + Arrays.toString(mst.forestEdges()));
+    }
+
+    /**
+     * Maintains a Minimum Spanning Forest (MSF) under a stream of edge insertions, using link-cut trees.
+     *
+     * Overview:
+     * Rerunning Kruskal over every edge seen so far after each insertion costs O(E log E) per edge.
+     * This structure keeps the current forest in a link-cut tree and updates it in O(log V) amortized per insertion.
+     *
+     * Intuition:
+     * When edge (u, v, w) arrives:
+     * - If u and v are in different trees, the edge joins them and always belongs to the new MSF.
+     * - Otherwise adding it closes exactly one cycle: the new edge plus the tree path from u to v. By the cycle property
+     *   the heaviest edge of that cycle is not in the MSF. If the heaviest edge on the path is heavier than w, it is
+     *   cut and the new edge linked in its place; otherwise the new edge is discarded.
+     * Link-cut trees support link, cut and "maximum on the path u..v" in O(log V) amortized, by representing the forest
+     * as preferred paths stored in splay trees. Edges are turned into nodes of their own (vertex - edgeNode - vertex),
+     * so that a path maximum over node weights is a maximum over edge weights.
+     *
+     * Data Structures Used:
+     * - left[], right[], parent[], reversed[]: array-based splay trees of the link-cut forest
+     * - weight[] and maxNode[]: node weights and the subtree argmax, maintained on every rotation
+     * - edgeId[], endpointU[], endpointV[]: which input edge an edge node stands for; freed edge nodes are reused,
+     *   so memory stays O(V) no matter how many edges are streamed
+     *
+     * Time Complexity: O(log V) amortized per insertion.
+     * Space Complexity: O(V).
+     * Edge Cases:
+     * - Self loops are never part of the forest.
+     * - On equal weights the edge already in the forest is kept.
+     *
+     * @param totalNodes the total number of nodes in the graph
+     */
+    public IncrementalMst(int totalNodes) {
+        this.totalNodes = totalNodes;
+        int capacity = Math.max(16, 2 * totalNodes);
+        left = new int[capacity];
+        right = new int[capacity];
+        parent = new int[capacity];
+        reversed = new boolean[capacity];
+        weight = new int[capacity];
+        maxNode = new int[capacity];
+        edgeId = new int[capacity];
+        endpointU = new int[capacity];
+        endpointV = new int[capacity];
+        freeNodes = new int[capacity];
+        for (int i = 0; i < totalNodes; i++) {
+            initNode(i, Integer.MIN_VALUE);
+        }
+        nodeCount = totalNodes;
+    }
+
+    /**
+     * Inserts the edge (u, v, w). Edges are numbered in insertion order starting at 0.
+     *
+     * @return the id of the edge that left the forest because of this insertion: the id of an evicted heavier edge,
+     * the new edge's own id if it was rejected, or -1 if the new edge joined two trees
+     */
+    public int addEdge(int u, int v, int w) {
+        int id = insertedEdges++;
+        if (u == v) return id;
+
+        makeRoot(u);
+        if (findRoot(v) != u) {
+            linkEdge(id, u, v, w);
+            return NONE;
+        }
+
+        // Heaviest edge on the tree path u..v (u is still the root of its tree)
+        access(v);
+        int heaviest = maxNode[v];
+        if (weight[heaviest] <= w) return id;
+
+        int evicted = edgeId[heaviest];
+        cutEdge(heaviest);
+        linkEdge(id, u, v, w);
+        return evicted;
+    }
+
+    /**
+     * @return the total weight of the current forest
+     */
+    public long cost() {
+        return cost;
+    }
+
+    /**
+     * @return the number of edges in the current forest
+     */
+    public int size() {
+        return forestSize;
+    }
+
+    /**
+     * @return whether u and v are in the same tree of the forest
+     */
+    public boolean connected(int u, int v) {
+        return findRoot(u) == findRoot(v);
+    }
+
+    /**
+     * @return the ids of the edges currently in the forest, in ascending order
+     */
+    public int[] forestEdges() {
+        int[] ids = new int[forestSize];
+        int count = 0;
+        for (int node = totalNodes; node < nodeCount; node++) {
+            if (edgeId[node] != NONE) ids[count++] = edgeId[node];
+        }
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    private void linkEdge(int id, int u, int v, int w) {
+        int node = allocateNode(w);
+        edgeId[node] = id;
+        endpointU[node] = u;
+        endpointV[node] = v;
+        link(u, node);
+        link(node, v);
+        cost += w;
+        forestSize++;
+    }
+
+    private void cutEdge(int node) {
+        cut(endpointU[node], node);
+        cut(node, endpointV[node]);
+        cost -= weight[node];
+        forestSize--;
+        edgeId[node] = NONE;
+        freeNodes[freeCount++] = node;
+    }
+
+    private int allocateNode(int w) {
+        int node;
+        if (freeCount > 0) {
+            node = freeNodes[--freeCount];
+        } else {
+            if (nodeCount == left.length) grow();
+            node = nodeCount++;
+        }
+        initNode(node, w);
+        return node;
+    }
+
+    private void initNode(int node, int w) {
+        left[node] = right[node] = parent[node] = NONE;
+        reversed[node] = false;
+        weight[node] = w;
+        maxNode[node] = node;
+        edgeId[node] = NONE;
+    }
+
+    private void grow() {
+        int capacity = left.length << 1;
+        left = Arrays.copyOf(left, capacity);
+        right = Arrays.copyOf(right, capacity);
+        parent = Arrays.copyOf(parent, capacity);
+        reversed = Arrays.copyOf(reversed, capacity);
+        weight = Arrays.copyOf(weight, capacity);
+        maxNode = Arrays.copyOf(maxNode, capacity);
+        edgeId = Arrays.copyOf(edgeId, capacity);
+        endpointU = Arrays.copyOf(endpointU, capacity);
+        endpointV = Arrays.copyOf(endpointV, capacity);
+        freeNodes = Arrays.copyOf(freeNodes, capacity);
+    }
+
+    // ---------------------------------------------------------------------------------------------
+    // Link-cut tree primitives
+    // ---------------------------------------------------------------------------------------------
+
+    private boolean isSplayRoot(int x) {
+        int p = parent[x];
+        return p == NONE || (left[p] != x && right[p] != x);
+    }
+
+    private void pushDown(int x) {
+        if (!reversed[x]) return;
+        int tmp = left[x];
+        left[x] = right[x];
+        right[x] = tmp;
+        if (left[x] != NONE) reversed[left[x]] ^= true;
+        if (right[x] != NONE) reversed[right[x]] ^= true;
+        reversed[x] = false;
+    }
+
+    private void pullUp(int x) {
+        int best = x;
+        if (left[x] != NONE && weight[maxNode[left[x]]] > weight[best]) best = maxNode[left[x]];
+        if (right[x] != NONE && weight[maxNode[right[x]]] > weight[best]) best = maxNode[right[x]];
+        maxNode[x] = best;
+    }
+
+    private void rotate(int x) {
+        int p = parent[x];
+        int g = parent[p];
+        boolean pIsRoot = isSplayRoot(p);
+        if (left[p] == x) {
+            left[p] = right[x];
+            if (right[x] != NONE) parent[right[x]] = p;
+            right[x] = p;
+        } else {
+            right[p] = left[x];
+            if (left[x] != NONE) parent[left[x]] = p;
+            left[x] = p;
+        }
+        parent[p] = x;
+        parent[x] = g;
+        if (!pIsRoot) {
+            if (left[g] == p) left[g] = x;
+            else right[g] = x;
+        }
+        pullUp(p);
+        pullUp(x);
+    }
+
+    private void splay(int x) {
+        // Push pending reversals from the splay root down to x, top-down
+        int depth = 0;
+        for (int y = x; ; y = parent[y]) {
+            if (depth == splayStack.length) splayStack = Arrays.copyOf(splayStack, depth << 1);
+            splayStack[depth++] = y;
+            if (isSplayRoot(y)) break;
+        }
+        while (depth > 0) pushDown(splayStack[--depth]);
+
+        while (!isSplayRoot(x)) {
+            int p = parent[x];
+            if (!isSplayRoot(p)) {
+                int g = parent[p];
+                boolean zigZig = (left[g] == p) == (left[p] == x);
+                rotate(zigZig ? p : x);
+            }
+            rotate(x);
+        }
+    }
+
+    /**
+     * Makes the root-to-x path preferred, leaving x at the root of its splay tree.
+     */
+    private void access(int x) {
+        int last = NONE;
+        for (int y = x; y != NONE; y = parent[y]) {
+            splay(y);
+            right[y] = last;
+            pullUp(y);
+            last = y;
+        }
+        splay(x);
+    }
+
+    private void makeRoot(int x) {
+        access(x);
+        reversed[x] ^= true;
+    }
+
+    private int findRoot(int x) {
+        access(x);
+        pushDown(x);
+        while (left[x] != NONE) {
+            x = left[x];
+            pushDown(x);
+        }
+        splay(x);
+        return x;
+    }
+
+    private void link(int x, int y) {
+        makeRoot(x);
+        parent[x] = y;
+    }
+
+    /**
+     * Cuts the tree edge between adjacent nodes x and y.
+     */
+    private void cut(int x, int y) {
+        makeRoot(x);
+        access(y);
+        // x is now y's predecessor on the path, i.e. the left child of y
+        left[y] = NONE;
+        parent[x] = NONE;
+        pullUp(y);
+    }
+}
@@ -1,5 +1,7 @@
 package graph.mst;
 
+import graph.unionFind.UnionFind;
+
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -7,8 +9,7 @@ import java.util.List;
 
 public class Kruskal {
 
-    int[] parent;
-    int[] rank;
+    UnionFind dsu;
 
     /**
      * Initializes the Kruskal's algorithm data structure.
@@ -25,8 +26,7 @@ public class Kruskal {
      * which is a collection of MSTs for each connected component.
      *
      * Data Structures Used:
-     * - parent array to store the parent of each node in the disjoint set.
-     * - rank array to store the rank (or depth) of each node in the disjoint set.
+     * - UnionFind (parent and size arrays, iterative path halving, union by size) to store the disjoint sets.
      * - Edge class to represent an edge with a source node, destination node, and weight.
      *
      * Time Complexity:
@@ -43,19 +43,13 @@ public class Kruskal {
      * - The space complexity is O(V + E), where V is the number of vertices and E is the number of edges.
      *
      * This is derived from:
-     * - The parent array, which stores the parent of each node, requiring O(V) space.
-     * - The rank array, which stores the rank (or depth) of each node, also requiring O(V) space.
+     * - The union-find arrays, which store the parent and set size of each node, requiring O(V) space.
      * - The adjacency list to store the graph, which requires O(E) space.
      *
      * @param totalNodes the total number of nodes in the graph
      */
     Kruskal(int totalNodes) {
-        parent = new int[totalNodes];
-        rank = new int[totalNodes];
-        for (int i = 0; i < totalNodes; i++) {
-            parent[i] = i;
-            rank[i] = 0;
-        }
+        dsu = new UnionFind(totalNodes);
     }
 
     public static void main(String[] args) {
@@ -90,9 +84,8 @@ public class Kruskal {
         // Process each edge in sorted order
         for (Edge edge : edges) {
             // If the edge connects two different sets, add it to the MST
-            if (findParent(edge.u) != findParent(edge.v)) {
+            if (dsu.union(edge.u, edge.v)) {
                 mstCost += edge.w;
-                union(edge.u, edge.v);
                 mstEdges.add(edge);
             }
         }
@@ -107,34 +100,23 @@ public class Kruskal {
 
     /**
      * Finds the representative (or parent) of the set that the node belongs to.
-     * Uses path compression to make the tree flatter and the operations faster.
+     * Uses iterative path halving, so long chains cannot overflow the stack.
      *
      * @param node the node to find the parent of
      * @return the representative of the set
      */
     public int findParent(int node) {
-        if (parent[node] == node) return node;
-        return parent[node] = findParent(parent[node]); // Path compression
+        return dsu.find(node);
     }
 
     /**
-     * Unions the sets containing nodes u and v using union by rank.
+     * Unions the sets containing nodes u and v using union by size.
      *
      * @param u the first node
      * @param v the second node
      */
     public void union(int u, int v) {
-        u = findParent(u);
-        v = findParent(v);
-
-        if (rank[u] > rank[v]) {
-            parent[v] = u;
-        } else if (rank[u] < rank[v]) {
-            parent[u] = v;
-        } else {
-            parent[v] = u;
-            rank[u]++;
-        }
+        dsu.union(u, v);
     }
 
     /**
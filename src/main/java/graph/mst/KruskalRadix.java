@@ -0,0 +1,163 @@
+package graph.mst;
+
+import graph.unionFind.UnionFind;
+
+import java.util.Arrays;
+
+public class KruskalRadix {
+
+    private static final int RADIX_BITS = 8;
+    private static final int BUCKETS = 1 << RADIX_BITS;
+
+    public static void main(String[] args) {
+        int totalNodes = 5;
+
+        // Same graph as Kruskal.main, as parallel primitive arrays (edge id = index)
+        int[] u = {0, 0, 1, 1, 1, 2};
+        int[] v = {1, 3, 3, 2, 4, 4};
+        int[] w = {2, 6, 8, 3, 5, 7};
+
+        MstResult mst = findMst(totalNodes, u, v, w);
+        for (int id : mst.edges) {
+            System.out.println(u[id] + " -> " + v[id]);
+        }
+        System.out.println("Cost of MST: " + mst.cost);
+    }
+
+    /**
+     * Finds the Minimum Spanning Tree (MST) using Kruskal's algorithm over primitive edge arrays.
+     *
+     * Overview:
+     * `Kruskal.findMst` sorts an `ArrayList<Edge>` through a boxed comparator lambda, which sorts pointers and makes
+     * the union-find scan chase objects scattered over the heap. This version keeps the edges in three int arrays and
+     * sorts a single long[] of packed keys instead, so both the sort and the scan stream through contiguous memory.
+     *
+     * Intuition:
+     * Each edge is packed into one long: the weight in the high 32 bits and the edge id in the low 32 bits.
+     * Comparing two packed keys as signed longs orders them by weight, and by edge id among equal weights.
+     * The keys are sorted with an LSD radix sort on the weight bytes only: the keys start out in edge id order and
+     * radix sort is stable, so ties keep that order for free. This is exactly the order `Kruskal.findMst` produces
+     * with its stable `List.sort`, so both pick the same MST.
+     *
+     * Data Structures Used:
+     * - u[], v[], w[]: the edge list, edge id = array index
+     * - keys[]: packed (weight, edge id) longs, sorted in place with one scratch buffer of the same size
+     * - UnionFind in its packed single-array layout: iterative path halving and union by size
+     *
+     * Algorithm Description:
+     * 1. Pack every edge into a key.
+     * 2. Radix sort the keys, one pass per weight byte, skipping bytes that are identical for all weights.
+     * 3. Scan the keys in order; accept an edge when its endpoints are in different sets and union them.
+     * 4. Stop early once V - 1 edges have been accepted.
+     *
+     * Time Complexity: O(E) for the sort (at most 4 passes over the keys), O(E * α(V)) for the scan.
+     * Space Complexity: O(V + E); two long arrays of size E.
+     * Edge Cases:
+     * - In the case of a disconnected graph, the result is a Minimum Spanning Forest.
+     * - Negative weights are allowed.
+     *
+     * @param totalNodes the total number of nodes in the graph
+     * @param u the first endpoint of each edge
+     * @param v the second endpoint of each edge
+     * @param w the weight of each edge
+     * @return the ids of the MST edges and the total cost
+     */
+    public static MstResult findMst(int totalNodes, int[] u, int[] v, int[] w) {
+        int edgeCount = w.length;
+        long[] keys = new long[edgeCount];
+        for (int i = 0; i < edgeCount; i++) {
+            keys[i] = packKey(w[i], i);
+        }
+        radixSort(keys, 0, edgeCount, new long[edgeCount], 4);
+
+        UnionFind dsu = UnionFind.packed(totalNodes);
+
+        int[] mstEdges = new int[Math.max(0, totalNodes - 1)];
+        int accepted = 0;
+        long cost = 0;
+        for (int i = 0; i < edgeCount && accepted < mstEdges.length; i++) {
+            int id = edgeId(keys[i]);
+            if (!dsu.union(u[id], v[id])) continue;
+
+            mstEdges[accepted++] = id;
+            cost += w[id];
+        }
+        return new MstResult(Arrays.copyOf(mstEdges, accepted), cost);
+    }
+
+    /**
+     * Packs an edge into a key whose signed long order is (weight, edge id).
+     */
+    static long packKey(int weight, int edgeId) {
+        return ((long) weight << 32) | edgeId;
+    }
+
+    static int edgeId(long key) {
+        return (int) key;
+    }
+
+    static int weight(long key) {
+        return (int) (key >> 32);
+    }
+
+    /**
+     * Stable LSD radix sort of keys[from, to) in signed long order, 8 bits per pass, starting at byte firstByte.
+     * Bytes below firstByte are ignored, which is only correct when the input is already ordered by them
+     * (e.g. freshly packed keys are in edge id order, so firstByte = 4 sorts by weight only).
+     * Passes over bytes that are equal in every key are skipped.
+     *
+     * @param keys the keys to sort
+     * @param from first index, inclusive
+     * @param to last index, exclusive
+     * @param buffer scratch space with at least to - from elements
+     * @param firstByte the least significant byte that takes part in the sort (0..7)
+     */
+    static void radixSort(long[] keys, int from, int to, long[] buffer, int firstByte) {
+        int n = to - from;
+        if (n < 2) return;
+
+        // Bits that differ between at least two keys; bytes with no such bit need no pass
+        long orBits = 0, andBits = -1;
+        for (int i = from; i < to; i++) {
+            orBits |= keys[i];
+            andBits &= keys[i];
+        }
+        long varying = orBits ^ andBits;
+
+        long[] src = keys, dst = buffer;
+        int srcOffset = from, dstOffset = 0;
+        int[] count = new int[BUCKETS];
+        for (int b = firstByte; b < 8; b++) {
+            int shift = b * RADIX_BITS;
+            if (((varying >>> shift) & (BUCKETS - 1)) == 0) continue;
+            // The top byte carries the sign; flipping its high bit turns signed order into unsigned bucket order
+            int flip = b == 7 ? 0x80 : 0;
+
+            Arrays.fill(count, 0);
+            for (int i = 0; i < n; i++) {
+                count[(int) ((src[srcOffset + i] >>> shift) & (BUCKETS - 1)) ^ flip]++;
+            }
+            for (int i = 0, sum = 0; i < BUCKETS; i++) {
+                int c = count[i];
+                count[i] = sum;
+                sum += c;
+            }
+            for (int i = 0; i < n; i++) {
+                long key = src[srcOffset + i];
+                dst[dstOffset + count[(int) ((key >>> shift) & (BUCKETS - 1)) ^ flip]++] = key;
+            }
+
+            long[] tmpArray = src;
+            src = dst;
+            dst = tmpArray;
+            int tmpOffset = srcOffset;
+            srcOffset = dstOffset;
+            dstOffset = tmpOffset;
+        }
+
+        // An odd number of passes leaves the result in the buffer
+        if (src != keys) {
+            System.arraycopy(src, srcOffset, keys, from, n);
+        }
+    }
+}
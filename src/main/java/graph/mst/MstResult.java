@@ -0,0 +1,15 @@
+package graph.mst;
+
+/**
+ * Result of an edge-list MST algorithm: the ids (indices into the input edge arrays) of the edges in the
+ * Minimum Spanning Tree / Forest, in the order they were accepted, and their total weight.
+ */
+public class MstResult {
+    public final int[] edges;
+    public final long cost;
+
+    MstResult(int[] edges, long cost) {
+        this.edges = edges;
+        this.cost = cost;
+    }
+}
@@ -1,5 +1,7 @@
 package graph.mst;
 
+import graph.IndexedMinHeap;
+
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -39,6 +41,9 @@ public class Prims {
         int mstCost = obj.primsAlgoMinCost(adj, totalNodes);
         obj.primsAlgoPrintMst(adj, totalNodes);
         System.out.println("Cost of minimum spanning tree: " + mstCost);
+
+        MstTree tree = obj.primsAlgoIndexedHeap(adj, totalNodes);
+        System.out.println("Indexed heap MST cost: " + tree.cost + ", parents: " + Arrays.toString(tree.parent));
     }
 
     /**
@@ -152,6 +157,7 @@ public class Prims {
         pq.add(new Node(0, 0)); // Start with node 0
         while (!pq.isEmpty()) {
             Node node = pq.poll();
+            if (mst[node.v]) continue; // Skip stale entries of nodes already included in the MST
             mst[node.v] = true;
 
             // Explore all adjacent nodes
@@ -171,6 +177,89 @@ public class Prims {
         }
     }
 
+    /**
+     * Implements Prim's algorithm with an indexed min-heap over vertices, returning the MST in a single pass.
+     *
+     * Overview:
+     * primsAlgoMinCost and primsAlgoPrintMst push a new queue entry for every candidate edge, so the priority queue can
+     * hold up to E entries (the O(log E) the TODO above wonders about), and computing both the cost and the tree
+     * means running the algorithm twice. This version keeps at most one heap entry per vertex and lowers its key
+     * in place (decrease-key) when a cheaper edge to it is found.
+     *
+     * Intuition:
+     * key[v] is the cheapest known edge connecting v to the tree. The heap is ordered by key[] and indexed by vertex,
+     * so "found a cheaper edge to v" becomes a sift-up of v's existing entry instead of a second entry.
+     * With at most V entries, every heap operation really is O(log V), and no stale entry ever has to be skipped.
+     *
+     * Data Structures Used:
+     * - key[]: the minimum weight to add each vertex to the MST
+     * - parent[]: the MST neighbor through which each vertex was added (-1 for roots)
+     * - IndexedMinHeap: binary heap of vertex ids with the heap slot of every vertex, keyed like key[]
+     *
+     * Steps:
+     * 1. Initialize key[] with infinity and parent[] with -1.
+     * 2. For every vertex not yet in the MST (one per component), set its key to 0 and insert it into the heap.
+     * 3. Extract the vertex with the minimum key, add it to the MST and its key to the cost.
+     * 4. For each neighbor not in the MST whose edge weight is below its key, update key and parent,
+     *    inserting it into the heap or decreasing its key.
+     *
+     * Time Complexity: O((V + E) log V), heap size bounded by V.
+     * Space Complexity: O(V) besides the adjacency list.
+     * Edge Cases:
+     * - In the case of a disconnected graph, the result is a Minimum Spanning Forest with one root per component.
+     *
+     * @param adj the adjacency list representing the graph
+     * @param totalNodes the total number of nodes in the graph
+     * @return the parent array of the MST and its cost
+     */
+    public MstTree primsAlgoIndexedHeap(ArrayList<ArrayList<Node>> adj, int totalNodes) {
+        boolean[] mst = new boolean[totalNodes]; // To keep track of nodes included in the MST
+
+        int[] key = new int[totalNodes]; // To store the minimum weight to add each node to the MST
+        Arrays.fill(key, Integer.MAX_VALUE);
+
+        int[] parent = new int[totalNodes]; // To store the parent node for each node in the MST
+        Arrays.fill(parent, -1);
+
+        IndexedMinHeap heap = new IndexedMinHeap(totalNodes);
+        long cost = 0;
+
+        for (int root = 0; root < totalNodes; root++) {
+            if (mst[root]) continue;
+            key[root] = 0;
+            heap.push(root, 0);
+
+            while (!heap.isEmpty()) {
+                int node = heap.pop();
+                mst[node] = true;
+                cost += key[node];
+
+                // Explore all adjacent nodes
+                for (Node adjNode : adj.get(node)) {
+                    if (!mst[adjNode.v] && adjNode.w < key[adjNode.v]) {
+                        key[adjNode.v] = adjNode.w; // Update the key value
+                        parent[adjNode.v] = node; // Update the parent
+                        heap.pushOrDecrease(adjNode.v, adjNode.w);
+                    }
+                }
+            }
+        }
+        return new MstTree(parent, cost);
+    }
+
+    /**
+     * A minimum spanning tree / forest given as parent pointers, with its total cost.
+     */
+    public static class MstTree {
+        public final int[] parent; // parent[v] = MST neighbor v was added through, -1 for roots
+        public final long cost;
+
+        MstTree(int[] parent, long cost) {
+            this.parent = parent;
+            this.cost = cost;
+        }
+    }
+
     /**
      * Represents a node in the graph with a destination node and edge weight.
      */
@@ -183,4 +272,4 @@ public class Prims {
             this.w = w;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,157 @@
+package graph.mst;
+
+import java.util.Arrays;
+import java.util.function.IntBinaryOperator;
+import java.util.stream.IntStream;
+
+public class PrimsDense {
+
+    /** Weight returned by a callback for a missing edge. */
+    public static final int NO_EDGE = Integer.MAX_VALUE;
+
+    private static final int PARALLEL_THRESHOLD = 1 << 12; // below this many vertices the scan stays sequential
+
+    public static void main(String[] args) {
+        int totalNodes = 5;
+        int[][] matrix = new int[totalNodes][totalNodes];
+
+        // Same graph as Prims.main, in the ShortestPathFloydWarshall layout: -1 means no edge
+        for (int[] row : matrix) {
+            Arrays.fill(row, -1);
+        }
+        int[][] edges = {{0, 1, 2}, {1, 2, 3}, {0, 3, 6}, {1, 3, 8}, {1, 4, 5}, {2, 4, 7}};
+        for (int[] edge : edges) {
+            matrix[edge[0]][edge[1]] = edge[2];
+            matrix[edge[1]][edge[0]] = edge[2];
+        }
+
+        PrimsDense obj = new PrimsDense();
+        Prims.MstTree tree = obj.primsDense(matrix);
+        System.out.println("Cost: " + tree.cost + ", parents: " + Arrays.toString(tree.parent));
+
+        // Complete graph over points on a line, weights computed on the fly instead of stored
+        int[] points = {1, 7, 3, 12, 20, 4};
+        tree = obj.primsDense(points.length, (a, b) -> Math.abs(points[a] - points[b]));
+        System.out.println("Cost: " + tree.cost + ", parents: " + Arrays.toString(tree.parent));
+    }
+
+    /**
+     * Implements the O(V^2) array-based Prim's algorithm for dense graphs.
+     *
+     * Overview:
+     * On complete or near-complete graphs E is close to V^2, so a heap-based Prim's pays O(V^2 log V) and has to
+     * materialize V^2 Node objects in adjacency lists. The classic array version is simply O(V^2): it keeps key[]
+     * in a flat array and finds the next vertex with a linear scan instead of a heap.
+     *
+     * Intuition:
+     * Each of the V steps adds the vertex with the smallest key to the tree, then lowers the keys of the remaining
+     * vertices using the new vertex's edges. Both are a pass over all vertices, so they are fused into a single pass:
+     * while updating key[v] from the new vertex, the scan also remembers the smallest key it has seen.
+     * That pass reads the key[] array sequentially and touches each weight once, and it is split across threads
+     * for large V: every chunk returns its local minimum packed as (key, vertex) in a long, and the smallest wins.
+     *
+     * Weights come from an IntBinaryOperator, so the matrix never has to be stored: pairwise distances can be
+     * computed on demand. Matrix and flat-array inputs are thin adapters over the same scan.
+     *
+     * Data Structures Used:
+     * - key[]: the minimum weight to add each vertex to the MST
+     * - parent[]: the MST neighbor through which each vertex was added (-1 for roots)
+     * - inTree[]: vertices already in the MST
+     *
+     * Time Complexity: O(V^2), with each step's scan split over P threads.
+     * Space Complexity: O(V) besides the weights.
+     * Edge Cases:
+     * - Missing edges are allowed; if no edge leaves the current tree a new root starts the next component,
+     *   so a disconnected graph yields a Minimum Spanning Forest.
+     * - An empty graph (totalNodes == 0) yields an empty tree of cost 0.
+     *
+     * Limitations:
+     * - The weight function must be symmetric (undirected graph).
+     *
+     * @param totalNodes the total number of nodes in the graph
+     * @param weight returns the weight of edge (u, v), or NO_EDGE if there is none
+     * @return the parent array of the MST and its cost
+     */
+    public Prims.MstTree primsDense(int totalNodes, IntBinaryOperator weight) {
+        if (totalNodes == 0) return new Prims.MstTree(new int[0], 0);
+
+        int[] key = new int[totalNodes];
+        Arrays.fill(key, NO_EDGE);
+        int[] parent = new int[totalNodes];
+        Arrays.fill(parent, -1);
+        boolean[] inTree = new boolean[totalNodes];
+
+        long cost = 0;
+        int node = 0;
+        key[0] = 0;
+        int chunks = 4 * Runtime.getRuntime().availableProcessors();
+        int chunkSize = (totalNodes + chunks - 1) / chunks;
+
+        for (int step = 0; step < totalNodes; step++) {
+            inTree[node] = true;
+            cost += key[node];
+            int u = node;
+
+            // Fused key update + argmin over the vertices outside the tree
+            long best;
+            if (totalNodes < PARALLEL_THRESHOLD) {
+                best = relaxRange(u, 0, totalNodes, weight, key, parent, inTree);
+            } else {
+                best = IntStream.range(0, chunks).parallel()
+                        .mapToLong(c -> relaxRange(u, c * chunkSize, Math.min(totalNodes, (c + 1) * chunkSize), weight, key, parent, inTree))
+                        .min()
+                        .getAsLong();
+            }
+            if (best == Long.MAX_VALUE) break; // every vertex is in the tree
+
+            node = (int) best;
+            if (key[node] == NO_EDGE) {
+                key[node] = 0; // nothing reaches the rest of the graph: start a new component
+            }
+        }
+        return new Prims.MstTree(parent, cost);
+    }
+
+    /**
+     * Dense Prim's over an adjacency matrix in the ShortestPathFloydWarshall layout, where -1 means no edge.
+     *
+     * @param matrix the adjacency matrix representing the graph
+     * @return the parent array of the MST and its cost
+     */
+    public Prims.MstTree primsDense(int[][] matrix) {
+        return primsDense(matrix.length, (u, v) -> matrix[u][v] == -1 ? NO_EDGE : matrix[u][v]);
+    }
+
+    /**
+     * Dense Prim's over a row-major flat matrix, weight of (u, v) at matrix[u * totalNodes + v], -1 means no edge.
+     *
+     * @param matrix the flat adjacency matrix
+     * @param totalNodes the total number of nodes in the graph
+     * @return the parent array of the MST and its cost
+     */
+    public Prims.MstTree primsDense(int[] matrix, int totalNodes) {
+        return primsDense(totalNodes, (u, v) -> {
+            int w = matrix[u * totalNodes + v];
+            return w == -1 ? NO_EDGE : w;
+        });
+    }
+
+    /**
+     * Lowers key[v] for v in [from, to) using the edges of u and returns the smallest remaining key in the range,
+     * packed as (key << 32 | v), or Long.MAX_VALUE if every vertex of the range is in the tree.
+     */
+    private static long relaxRange(int u, int from, int to, IntBinaryOperator weight, int[] key, int[] parent, boolean[] inTree) {
+        long best = Long.MAX_VALUE;
+        for (int v = from; v < to; v++) {
+            if (inTree[v]) continue;
+            int w = weight.applyAsInt(u, v);
+            if (w != NO_EDGE && w < key[v]) {
+                key[v] = w;
+                parent[v] = u;
+            }
+            long packed = ((long) key[v] << 32) | v;
+            if (packed < best) best = packed;
+        }
+        return best;
+    }
+}
@@ -0,0 +1,286 @@
+package graph.pageRank;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+public class PageRank {
+
+    public static final double DEFAULT_DAMPING = 0.85;
+    public static final double DEFAULT_TOLERANCE = 1e-9; // on the L1 change of the rank vector
+    public static final int DEFAULT_MAX_ITERATIONS = 100;
+
+    private static final int MIN_CHUNK_EDGES = 1 << 16; // chunks smaller than this are not worth a task
+
+    private final int totalNodes;
+    private final int[] inOffsets; // pull CSR: the in-neighbors of v are sources[inOffsets[v]..inOffsets[v+1])
+    private final int[] sources;
+    private final int[] outDegree;
+    private final int[] chunkStart; // vertex ranges with about the same number of in-edges plus vertices
+
+    public static void main(String[] args) {
+        int totalNodes = 6;
+        ArrayList<ArrayList<Integer>> adj = new ArrayList<>();
+        for (int i = 0; i < totalNodes; i++)
+            adj.add(new ArrayList<>());
+        // Directed links; node 5 has no outgoing link (dangling)
+        int[][] edges = {{0, 1}, {0, 2}, {1, 2}, {2, 0}, {3, 2}, {4, 2}, {4, 5}, {1, 5}};
+        for (int[] edge : edges) {
+            adj.get(edge[0]).add(edge[1]);
+        }
+
+        PageRank obj = new PageRank(totalNodes, adj);
+        Result global = obj.rank();
+        System.out.println("PageRank: " + Arrays.toString(global.rank) + " after " + global.iterations + " iterations");
+        Result personalized = obj.personalized(new int[]{3});
+        System.out.println("Personalized from {3}: " + Arrays.toString(personalized.rank));
+    }
+
+    /**
+     * The scores of a power iteration. rank sums to 1.
+     */
+    public static class Result {
+        public final double[] rank;
+        public final int iterations;
+        public final double residual; // L1 change in the last iteration
+        public final boolean converged;
+
+        Result(double[] rank, int iterations, double residual, boolean converged) {
+            this.rank = rank;
+            this.iterations = iterations;
+            this.residual = residual;
+            this.converged = converged;
+        }
+    }
+
+    /**
+     * Builds the engine from a directed graph in the adjacency-list layout of `graph.BFS` (adj.get(u) lists the
+     * targets of u's links).
+     *
+     * @param totalNodes the total number of nodes in the graph
+     * @param adj the adjacency list representing the graph
+     */
+    public PageRank(int totalNodes, ArrayList<ArrayList<Integer>> adj) {
+        this.totalNodes = totalNodes;
+        outDegree = new int[totalNodes];
+        inOffsets = new int[totalNodes + 1];
+        for (int u = 0; u < totalNodes; u++) {
+            outDegree[u] = adj.get(u).size();
+            for (int v : adj.get(u)) {
+                inOffsets[v + 1]++;
+            }
+        }
+        Arrays.parallelPrefix(inOffsets, Integer::sum);
+        sources = new int[inOffsets[totalNodes]];
+        int[] fill = Arrays.copyOf(inOffsets, totalNodes);
+        for (int u = 0; u < totalNodes; u++) {
+            for (int v : adj.get(u)) {
+                sources[fill[v]++] = u;
+            }
+        }
+        chunkStart = balanceChunks();
+    }
+
+    /**
+     * Builds the engine from a directed edge list given as parallel primitive arrays (link from[e] -> to[e]).
+     *
+     * @param totalNodes the total number of nodes in the graph
+     * @param from the source of each link
+     * @param to the target of each link
+     */
+    public PageRank(int totalNodes, int[] from, int[] to) {
+        this.totalNodes = totalNodes;
+        outDegree = new int[totalNodes];
+        inOffsets = new int[totalNodes + 1];
+        for (int e = 0; e < from.length; e++) {
+            outDegree[from[e]]++;
+            inOffsets[to[e] + 1]++;
+        }
+        Arrays.parallelPrefix(inOffsets, Integer::sum);
+        sources = new int[from.length];
+        int[] fill = Arrays.copyOf(inOffsets, totalNodes);
+        for (int e = 0; e < from.length; e++) {
+            sources[fill[to[e]]++] = from[e];
+        }
+        chunkStart = balanceChunks();
+    }
+
+    /**
+     * Computes PageRank with the default damping, tolerance and iteration limit.
+     */
+    public Result rank() {
+        return rank(DEFAULT_DAMPING, DEFAULT_TOLERANCE, DEFAULT_MAX_ITERATIONS);
+    }
+
+    /**
+     * Computes PageRank by parallel, pull-based power iteration.
+     *
+     * Overview:
+     * PageRank scores a node by the chance that a random surfer is on it in the long run. In every step the surfer
+     * follows a random outgoing link with probability `damping`, and otherwise jumps to a node drawn from the
+     * teleport distribution (uniform here, the seed set in personalized()). The scores are the fixed point of
+     * rank' = (1 - damping) * teleport + damping * (sum over links u -> v of rank[u] / outDegree[u]),
+     * which power iteration reaches geometrically, with rate `damping`.
+     *
+     * Intuition:
+     * - Pull instead of push: each node v sums over its in-neighbors and writes only its own entry, so threads never
+     *   write to shared slots and need no atomics or locks. That needs the in-edge CSR, built once.
+     * - The buffers hold rank[u] / outDegree[u] instead of rank[u], so the inner loop over edges is a plain sum of
+     *   one array lookup per edge; the division happens once per node.
+     * - Dangling nodes (no outgoing links) would leak their rank; their total mass is redistributed along the
+     *   teleport distribution in the next iteration, so the ranks keep summing to 1.
+     * - Two double[] buffers are swapped every iteration; nothing is allocated inside the loop.
+     * - The vertex range is split into chunks with about the same number of in-edges, so a few high in-degree
+     *   nodes do not leave one thread with most of the work. Each chunk also reports its share of the next dangling
+     *   mass and of the L1 change, summed in chunk order, so the result does not depend on thread timing.
+     *
+     * Algorithm Description:
+     * 1. rank = teleport distribution.
+     * 2. In parallel over chunks, for every v:
+     *    next[v] = (1 - damping + damping * danglingMass) * teleport[v] + damping * sum(scaled[u] for u -> v)
+     * 3. Stop when the L1 change sum |next - rank| drops below tolerance, or after maxIterations.
+     *
+     * Time Complexity: O(V + E) per iteration, O(log(tolerance) / log(damping)) iterations.
+     * Space Complexity: O(V + E): the in-edge CSR, out-degrees and two rank buffers.
+     * Edge Cases:
+     * - Self loops and parallel links count like any other link.
+     * Limitations:
+     * - Edge ids are ints, so the graph can have at most Integer.MAX_VALUE links (about 2 * 10^9).
+     *
+     * @param damping the probability of following a link, usually 0.85
+     * @param tolerance convergence threshold on the L1 change of the rank vector
+     * @param maxIterations the iteration limit
+     * @return the ranks
+     */
+    public Result rank(double damping, double tolerance, int maxIterations) {
+        return iterate(null, damping, tolerance, maxIterations);
+    }
+
+    /**
+     * Computes personalized PageRank from a seed set with the default damping, tolerance and iteration limit.
+     */
+    public Result personalized(int[] seeds) {
+        return personalized(seeds, DEFAULT_DAMPING, DEFAULT_TOLERANCE, DEFAULT_MAX_ITERATIONS);
+    }
+
+    /**
+     * Computes personalized PageRank: the surfer teleports (and leaves dangling nodes) only to the seed nodes, chosen
+     * uniformly. Scores then measure proximity to the seeds instead of global importance. Same algorithm as rank().
+     *
+     * @param seeds the seed nodes; duplicates count once
+     * @param damping the probability of following a link, usually 0.85
+     * @param tolerance convergence threshold on the L1 change of the rank vector
+     * @param maxIterations the iteration limit
+     * @return the ranks
+     * @throws IllegalArgumentException if seeds is empty
+     */
+    public Result personalized(int[] seeds, double damping, double tolerance, int maxIterations) {
+        BitSet distinct = new BitSet(totalNodes);
+        for (int s : seeds) {
+            distinct.set(s);
+        }
+        if (distinct.isEmpty()) {
+            throw new IllegalArgumentException("The seed set is empty");
+        }
+        double[] teleport = new double[totalNodes];
+        double weight = 1.0 / distinct.cardinality();
+        for (int s = distinct.nextSetBit(0); s >= 0; s = distinct.nextSetBit(s + 1)) {
+            teleport[s] = weight;
+        }
+        return iterate(teleport, damping, tolerance, maxIterations);
+    }
+
+    /**
+     * Power iteration; teleport == null stands for the uniform distribution.
+     */
+    private Result iterate(double[] teleport, double damping, double tolerance, int maxIterations) {
+        if (damping < 0 || damping >= 1) {
+            throw new IllegalArgumentException("Damping must be in [0, 1), got " + damping);
+        }
+        if (totalNodes == 0) return new Result(new double[0], 0, 0, true);
+
+        int chunks = chunkStart.length - 1;
+        double uniform = 1.0 / totalNodes;
+        double[] scaled = new double[totalNodes];     // rank[u] / outDegree[u], or rank[u] for dangling u
+        double[] nextScaled = new double[totalNodes];
+        double[] partialDangling = new double[chunks];
+        double[] partialChange = new double[chunks];
+
+        double dangling = 0;
+        for (int u = 0; u < totalNodes; u++) {
+            double r = teleport == null ? uniform : teleport[u];
+            if (outDegree[u] == 0) {
+                scaled[u] = r;
+                dangling += r;
+            } else {
+                scaled[u] = r / outDegree[u];
+            }
+        }
+
+        int iterations = 0;
+        double change = Double.POSITIVE_INFINITY;
+        while (iterations < maxIterations && change >= tolerance) {
+            double jump = 1 - damping + damping * dangling; // mass spread along the teleport distribution
+            double[] current = scaled, next = nextScaled;
+            IntStream.range(0, chunks).parallel().forEach(c -> {
+                double danglingSum = 0, changeSum = 0;
+                for (int v = chunkStart[c]; v < chunkStart[c + 1]; v++) {
+                    double sum = 0;
+                    for (int i = inOffsets[v]; i < inOffsets[v + 1]; i++) {
+                        sum += current[sources[i]];
+                    }
+                    double r = jump * (teleport == null ? uniform : teleport[v]) + damping * sum;
+                    int degree = outDegree[v];
+                    if (degree == 0) {
+                        changeSum += Math.abs(r - current[v]);
+                        next[v] = r;
+                        danglingSum += r;
+                    } else {
+                        changeSum += Math.abs(r - current[v] * degree);
+                        next[v] = r / degree;
+                    }
+                }
+                partialDangling[c] = danglingSum;
+                partialChange[c] = changeSum;
+            });
+
+            dangling = 0;
+            change = 0;
+            for (int c = 0; c < chunks; c++) {
+                dangling += partialDangling[c];
+                change += partialChange[c];
+            }
+            nextScaled = scaled;
+            scaled = next;
+            iterations++;
+        }
+
+        // Undo the scaling in place
+        double[] rank = scaled;
+        IntStream.range(0, totalNodes).parallel().forEach(u -> {
+            if (outDegree[u] > 0) rank[u] *= outDegree[u];
+        });
+        return new Result(rank, iterations, change, change < tolerance);
+    }
+
+    /**
+     * Splits 0..totalNodes into ranges of about equal cost, counting one unit per in-edge and per vertex. Aims at
+     * four chunks per worker thread so that uneven chunks still balance out, but never below MIN_CHUNK_EDGES each.
+     */
+    private int[] balanceChunks() {
+        long cost = (long) inOffsets[totalNodes] + totalNodes;
+        int target = 4 * ForkJoinPool.getCommonPoolParallelism();
+        int chunks = (int) Math.max(1, Math.min(target, cost / MIN_CHUNK_EDGES));
+        int[] start = new int[chunks + 1];
+        int v = 0;
+        for (int c = 1; c < chunks; c++) {
+            long goal = cost * c / chunks;
+            while (v < totalNodes && (long) inOffsets[v] + v < goal) v++;
+            start[c] = v;
+        }
+        start[chunks] = totalNodes;
+        return start;
+    }
+}
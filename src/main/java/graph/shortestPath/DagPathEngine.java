@@ -0,0 +1,250 @@
+package graph.shortestPath;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+public class DagPathEngine {
+
+    public static final long UNREACHABLE_SHORTEST = Long.MAX_VALUE;
+    public static final long UNREACHABLE_LONGEST = Long.MIN_VALUE;
+
+    private final int totalNodes;
+    private final int[] offsets;   // offsets[u]..offsets[u+1]-1 are the outgoing edges of u
+    private final int[] targets;   // destination node of each edge
+    private final int[] weights;   // weight of each edge
+    private final int[] topoOrder; // cached topological order
+    private final int[] position;  // position[u] = index of u inside topoOrder
+
+    public static void main(String[] args) {
+        int totalNodes = 6;
+        ArrayList<ArrayList<Edge>> adj = new ArrayList<>();
+
+        // Initialize adjacency list for the graph
+        for (int i = 0; i < totalNodes; i++) {
+            adj.add(new ArrayList<>());
+        }
+
+        // Same graph as ShortestPathWeightedDirectedAcyclicGraph
+        adj.get(0).add(new Edge(1, 2));
+        adj.get(0).add(new Edge(4, 1));
+        adj.get(1).add(new Edge(2, 3));
+        adj.get(2).add(new Edge(3, 6));
+        adj.get(4).add(new Edge(2, 2));
+        adj.get(4).add(new Edge(5, 4));
+        adj.get(5).add(new Edge(3, 1));
+
+        DagPathEngine engine = new DagPathEngine(totalNodes, adj);
+
+        // Answer several sources against the same cached topological order
+        int[] sources = {0, 4, 1};
+        long[][] shortest = engine.shortestPaths(sources);
+        long[][] longest = engine.longestPaths(sources);
+        for (int i = 0; i < sources.length; i++) {
+            System.out.println("Source " + sources[i] + " shortest: " + format(shortest[i], UNREACHABLE_SHORTEST));
+            System.out.println("Source " + sources[i] + " longest:  " + format(longest[i], UNREACHABLE_LONGEST));
+        }
+    }
+
+    /**
+     * Builds a reusable path engine over a weighted Directed Acyclic Graph (DAG).
+     *
+     * Overview:
+     * `ShortestPathWeightedDirectedAcyclicGraph` recomputes a recursive DFS topological sort on every call.
+     * This engine computes the topological order once, with an iterative Kahn pass, and caches it together with a
+     * flattened (CSR) copy of the adjacency list. Every later shortest or longest path query is a single linear sweep.
+     *
+     * Intuition:
+     * In a DAG every path visits nodes in topological order, so relaxing the outgoing edges of each node in that order
+     * finalizes every distance in one pass. Nodes before the source in the order can never be reached from it,
+     * so the sweep starts at the source's position instead of at the beginning.
+     * Longest paths use the same sweep with max instead of min, which is what critical-path / earliest-start
+     * computations need (longest path is NP-hard in general graphs, but linear on a DAG).
+     *
+     * Data Structures Used:
+     * - offsets[], targets[], weights[]: adjacency list flattened into primitive arrays (CSR layout)
+     * - topoOrder[]: the cached topological order
+     * - position[]: index of each node inside topoOrder, to start a sweep at the source
+     *
+     * Algorithm Description:
+     * 1. Flatten the adjacency list and count the in-degree of each node.
+     * 2. Run Kahn's algorithm with an int array used as the queue; if not every node is emitted the graph has a cycle.
+     * 3. For a query, fill the distance array with "unreachable", set the source to 0 and relax edges in topological order.
+     * 4. Batch queries run each source's sweep on its own thread; the cached arrays are read-only, so no locking is needed.
+     *
+     * Time Complexity: O(V + E) to build, O(V + E) per source query.
+     * Space Complexity: O(V + E) for the cached graph, O(V) per query result.
+     * Edge Cases:
+     * - The graph may contain disconnected components (those nodes stay unreachable).
+     * - Negative edge weights are allowed.
+     *
+     * @param totalNodes the total number of nodes in the graph
+     * @param adj the adjacency list representing the graph
+     * @throws IllegalArgumentException if the graph contains a cycle
+     */
+    public DagPathEngine(int totalNodes, ArrayList<ArrayList<Edge>> adj) {
+        this.totalNodes = totalNodes;
+        this.offsets = new int[totalNodes + 1];
+        for (int u = 0; u < totalNodes; u++) {
+            offsets[u + 1] = offsets[u] + adj.get(u).size();
+        }
+        this.targets = new int[offsets[totalNodes]];
+        this.weights = new int[offsets[totalNodes]];
+        for (int u = 0; u < totalNodes; u++) {
+            int e = offsets[u];
+            for (Edge edge : adj.get(u)) {
+                targets[e] = edge.v;
+                weights[e] = edge.weight;
+                e++;
+            }
+        }
+        this.topoOrder = new int[totalNodes];
+        this.position = new int[totalNodes];
+        kahnTopoSort();
+    }
+
+    /**
+     * Builds the engine from an edge list given as parallel primitive arrays.
+     *
+     * @param totalNodes the total number of nodes in the graph
+     * @param from the source node of each edge
+     * @param to the destination node of each edge
+     * @param weight the weight of each edge
+     * @throws IllegalArgumentException if the graph contains a cycle
+     */
+    public DagPathEngine(int totalNodes, int[] from, int[] to, int[] weight) {
+        this.totalNodes = totalNodes;
+        this.offsets = new int[totalNodes + 1];
+        for (int u : from) {
+            offsets[u + 1]++;
+        }
+        for (int u = 0; u < totalNodes; u++) {
+            offsets[u + 1] += offsets[u];
+        }
+        this.targets = new int[from.length];
+        this.weights = new int[from.length];
+        int[] next = Arrays.copyOf(offsets, totalNodes);
+        for (int i = 0; i < from.length; i++) {
+            int e = next[from[i]]++;
+            targets[e] = to[i];
+            weights[e] = weight[i];
+        }
+        this.topoOrder = new int[totalNodes];
+        this.position = new int[totalNodes];
+        kahnTopoSort();
+    }
+
+    /**
+     * Iterative Kahn's algorithm filling topoOrder[] and position[].
+     * topoOrder[] itself is used as the BFS queue, so no extra collection is allocated.
+     */
+    private void kahnTopoSort() {
+        int[] inDegree = new int[totalNodes];
+        for (int target : targets) {
+            inDegree[target]++;
+        }
+
+        int tail = 0;
+        for (int i = 0; i < totalNodes; i++) {
+            if (inDegree[i] == 0) topoOrder[tail++] = i;
+        }
+
+        for (int head = 0; head < tail; head++) {
+            int node = topoOrder[head];
+            position[node] = head;
+            for (int e = offsets[node]; e < offsets[node + 1]; e++) {
+                if (--inDegree[targets[e]] == 0) topoOrder[tail++] = targets[e];
+            }
+        }
+
+        if (tail != totalNodes) {
+            throw new IllegalArgumentException("Graph contains a cycle");
+        }
+    }
+
+    /**
+     * Shortest distances from src to every node, or UNREACHABLE_SHORTEST for nodes that cannot be reached.
+     *
+     * @param src the source node
+     * @return the distance array
+     */
+    public long[] shortestPaths(int src) {
+        long[] dist = new long[totalNodes];
+        Arrays.fill(dist, UNREACHABLE_SHORTEST);
+        dist[src] = 0;
+
+        // Nodes before src in topological order are never reachable from it
+        for (int i = position[src]; i < totalNodes; i++) {
+            int node = topoOrder[i];
+            long d = dist[node];
+            if (d == UNREACHABLE_SHORTEST) continue;
+            for (int e = offsets[node]; e < offsets[node + 1]; e++) {
+                long candidate = d + weights[e];
+                if (candidate < dist[targets[e]]) dist[targets[e]] = candidate;
+            }
+        }
+        return dist;
+    }
+
+    /**
+     * Longest distances from src to every node, or UNREACHABLE_LONGEST for nodes that cannot be reached.
+     *
+     * @param src the source node
+     * @return the distance array
+     */
+    public long[] longestPaths(int src) {
+        long[] dist = new long[totalNodes];
+        Arrays.fill(dist, UNREACHABLE_LONGEST);
+        dist[src] = 0;
+
+        for (int i = position[src]; i < totalNodes; i++) {
+            int node = topoOrder[i];
+            long d = dist[node];
+            if (d == UNREACHABLE_LONGEST) continue;
+            for (int e = offsets[node]; e < offsets[node + 1]; e++) {
+                long candidate = d + weights[e];
+                if (candidate > dist[targets[e]]) dist[targets[e]] = candidate;
+            }
+        }
+        return dist;
+    }
+
+    /**
+     * Shortest distances from every source, one sweep per source, sources processed in parallel.
+     *
+     * @param sources the source nodes
+     * @return result[i] is the distance array of sources[i]
+     */
+    public long[][] shortestPaths(int[] sources) {
+        long[][] result = new long[sources.length][];
+        IntStream.range(0, sources.length).parallel().forEach(i -> result[i] = shortestPaths(sources[i]));
+        return result;
+    }
+
+    /**
+     * Longest distances from every source, one sweep per source, sources processed in parallel.
+     *
+     * @param sources the source nodes
+     * @return result[i] is the distance array of sources[i]
+     */
+    public long[][] longestPaths(int[] sources) {
+        long[][] result = new long[sources.length][];
+        IntStream.range(0, sources.length).parallel().forEach(i -> result[i] = longestPaths(sources[i]));
+        return result;
+    }
+
+    /**
+     * @return a copy of the cached topological order
+     */
+    public int[] topologicalOrder() {
+        return topoOrder.clone();
+    }
+
+    private static String format(long[] dist, long unreachable) {
+        StringBuilder sb = new StringBuilder();
+        for (long d : dist) {
+            sb.append(d == unreachable ? "INF" : String.valueOf(d)).append(' ');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,343 @@
+package graph.shortestPath;
+
+import graph.IndexedMinHeap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+public class DynamicShortestPath {
+
+    public static final long UNREACHABLE = Long.MAX_VALUE;
+
+    private final int src;
+
+    // Edge storage, indexed by edge id
+    private int[] from = new int[16];
+    private int[] to = new int[16];
+    private int[] weight = new int[16];
+    private boolean[] alive = new boolean[16];
+    private int[] outSlot = new int[16]; // index of the edge id in outEdges[from] / inEdges[to]
+    private int[] inSlot = new int[16];
+    private int edgeCount;
+
+    // Per-node lists of outgoing / incoming edge ids of live edges
+    private final int[][] outEdges;
+    private final int[] outSize;
+    private final int[][] inEdges;
+    private final int[] inSize;
+
+    // Shortest path tree of src
+    private final long[] dist;
+    private final int[] parentEdge;
+
+    // Scratch space reused across updates
+    private final IndexedMinHeap heap;
+    private final int[] affectedStamp;
+    private int stamp;
+    private int[] stack;
+
+    public static void main(String[] args) {
+        int totalNodes = 6;
+        DynamicShortestPath sp = new DynamicShortestPath(totalNodes, 0);
+
+        int e01 = sp.addEdge(0, 1, 4);
+        sp.addEdge(0, 2, 1);
+        int e21 = sp.addEdge(2, 1, 2);
+        sp.addEdge(1, 3, 1);
+        sp.addEdge(2, 3, 5);
+        sp.addEdge(3, 4, 3);
+        System.out.println("Initial:              " + Arrays.toString(sp.distances()));
+
+        // Weight increase on a tree edge: only the subtree below node 1 is repaired
+        sp.updateWeight(e21, 10);
+        System.out.println("After 2->1 becomes 10: " + Arrays.toString(sp.distances()));
+
+        // Deleting the edge that now feeds node 1
+        sp.removeEdge(e01);
+        System.out.println("After removing 0->1:   " + Arrays.toString(sp.distances()));
+
+        // Insertion that shortens paths
+        sp.addEdge(0, 4, 2);
+        System.out.println("After adding 0->4:     " + Arrays.toString(sp.distances()));
+        System.out.println("Path to 4: " + Arrays.toString(sp.path(4)));
+    }
+
+    /**
+     * Creates a dynamic single-source shortest path structure for src over an initially empty graph.
+     *
+     * Overview:
+     * Re-running Dijkstra for every registered source after every edge change repeats work for the large part of the
+     * shortest path tree that the change cannot affect. This structure keeps the distance and parent arrays of one
+     * source and repairs them after each edge insertion, deletion or weight change, in the spirit of Ramalingam-Reps.
+     *
+     * Intuition:
+     * - Decrease (insertion or lower weight) of edge (u, v): nothing changes unless dist[u] + w < dist[v].
+     *   If it is, v improves and the improvement spreads outward with a Dijkstra that starts only from v.
+     * - Increase (deletion or higher weight) of edge (u, v): nothing changes unless (u, v) is the tree edge into v.
+     *   If it is, only the nodes in v's subtree of the shortest path tree can get longer. Their distances are reset,
+     *   each one is seeded with its best incoming edge from outside the subtree, and a Dijkstra restricted to the
+     *   subtree settles them again.
+     * In both cases the work is proportional to the region whose distances actually change (plus their edges).
+     *
+     * Data Structures Used:
+     * - from[], to[], weight[], alive[]: edge storage indexed by edge id
+     * - outEdges / inEdges: per-node lists of live edge ids, so both directions can be scanned. A removed edge is
+     *   swap-removed from both lists (outSlot[] / inSlot[] give its index), so deletions leave nothing to rescan
+     * - dist[] and parentEdge[]: the shortest path tree
+     * - IndexedMinHeap: a binary heap over node ids with decrease-key, bounded by V
+     *
+     * Time Complexity: O(A log A + E_A) per update, where A is the number of nodes whose distance changes
+     * and E_A the number of edges touching them. A full Dijkstra is the worst case.
+     * Space Complexity: O(V + E).
+     *
+     * Limitations:
+     * - Edge weights must be non-negative, as for Dijkstra.
+     *
+     * @param totalNodes the total number of nodes in the graph
+     * @param src the source node
+     */
+    public DynamicShortestPath(int totalNodes, int src) {
+        this.src = src;
+        this.outEdges = new int[totalNodes][];
+        this.outSize = new int[totalNodes];
+        this.inEdges = new int[totalNodes][];
+        this.inSize = new int[totalNodes];
+        this.dist = new long[totalNodes];
+        this.parentEdge = new int[totalNodes];
+        this.heap = new IndexedMinHeap(totalNodes);
+        this.affectedStamp = new int[totalNodes];
+        this.stack = new int[16];
+
+        Arrays.fill(dist, UNREACHABLE);
+        Arrays.fill(parentEdge, -1);
+        dist[src] = 0;
+    }
+
+    /**
+     * Creates the structure from the adjacency list used by ShortestPathDijkstra and runs a single Dijkstra to build it.
+     * Edge ids are assigned in adjacency order: all edges of node 0 first, then node 1, and so on.
+     *
+     * @param adj the adjacency list (Node.u = neighbor, Node.w = edge weight)
+     * @param totalNodes the total number of nodes in the graph
+     * @param src the source node
+     */
+    public DynamicShortestPath(ArrayList<ArrayList<ShortestPathDijkstra.Node>> adj, int totalNodes, int src) {
+        this(totalNodes, src);
+        for (int u = 0; u < totalNodes; u++) {
+            for (ShortestPathDijkstra.Node node : adj.get(u)) {
+                storeEdge(u, node.u, node.w);
+            }
+        }
+        heap.push(src, 0);
+        propagate();
+    }
+
+    /**
+     * Inserts the edge u -> v with weight w and repairs the distances it improves.
+     *
+     * @return the id of the new edge, used by removeEdge and updateWeight
+     */
+    public int addEdge(int u, int v, int w) {
+        int id = storeEdge(u, v, w);
+        relaxInto(id);
+        propagate();
+        return id;
+    }
+
+    /**
+     * Deletes an edge and repairs the subtree that hung below it, if it was a tree edge.
+     */
+    public void removeEdge(int id) {
+        if (!alive[id]) return;
+        alive[id] = false;
+        removeSlot(outEdges[from[id]], outSize, from[id], outSlot, id);
+        removeSlot(inEdges[to[id]], inSize, to[id], inSlot, id);
+        if (parentEdge[to[id]] == id) repairSubtree(to[id]);
+    }
+
+    /**
+     * Changes the weight of an edge and repairs the affected region.
+     */
+    public void updateWeight(int id, int w) {
+        if (w < 0) throw new IllegalArgumentException("Edge weight must be non-negative, found " + w);
+        if (!alive[id]) throw new IllegalArgumentException("Edge " + id + " has been removed");
+        int old = weight[id];
+        weight[id] = w;
+        if (w < old) {
+            relaxInto(id);
+            propagate();
+        } else if (w > old && parentEdge[to[id]] == id) {
+            repairSubtree(to[id]);
+        }
+    }
+
+    /**
+     * @return the shortest distance from the source to node, or UNREACHABLE
+     */
+    public long distance(int node) {
+        return dist[node];
+    }
+
+    /**
+     * @return a copy of the distance array, UNREACHABLE for nodes that cannot be reached
+     */
+    public long[] distances() {
+        return dist.clone();
+    }
+
+    /**
+     * @return the predecessor of node in the shortest path tree, or -1 for the source and unreachable nodes
+     */
+    public int parent(int node) {
+        return parentEdge[node] == -1 ? -1 : from[parentEdge[node]];
+    }
+
+    /**
+     * @return the nodes of the current shortest path from the source to node, or an empty array if unreachable
+     */
+    public int[] path(int node) {
+        if (dist[node] == UNREACHABLE) return new int[0];
+        int length = 1;
+        for (int x = node; x != src; x = from[parentEdge[x]]) length++;
+        int[] path = new int[length];
+        for (int x = node, i = length - 1; i >= 0; i--) {
+            path[i] = x;
+            if (i > 0) x = from[parentEdge[x]];
+        }
+        return path;
+    }
+
+    private int storeEdge(int u, int v, int w) {
+        if (w < 0) throw new IllegalArgumentException("Edge weight must be non-negative, found " + w);
+        if (edgeCount == from.length) {
+            int capacity = from.length << 1;
+            from = Arrays.copyOf(from, capacity);
+            to = Arrays.copyOf(to, capacity);
+            weight = Arrays.copyOf(weight, capacity);
+            alive = Arrays.copyOf(alive, capacity);
+            outSlot = Arrays.copyOf(outSlot, capacity);
+            inSlot = Arrays.copyOf(inSlot, capacity);
+        }
+        int id = edgeCount++;
+        from[id] = u;
+        to[id] = v;
+        weight[id] = w;
+        alive[id] = true;
+        outSlot[id] = appendEdge(outEdges, outSize, u, id);
+        inSlot[id] = appendEdge(inEdges, inSize, v, id);
+        return id;
+    }
+
+    /**
+     * @return the index of id in the list of node
+     */
+    private static int appendEdge(int[][] lists, int[] sizes, int node, int id) {
+        if (lists[node] == null) {
+            lists[node] = new int[4];
+        } else if (sizes[node] == lists[node].length) {
+            lists[node] = Arrays.copyOf(lists[node], sizes[node] << 1);
+        }
+        lists[node][sizes[node]] = id;
+        return sizes[node]++;
+    }
+
+    /**
+     * Removes id from the list of node in O(1) by moving the last entry into its slot.
+     */
+    private static void removeSlot(int[] list, int[] sizes, int node, int[] slot, int id) {
+        int last = list[--sizes[node]];
+        list[slot[id]] = last;
+        slot[last] = slot[id];
+    }
+
+    /**
+     * Relaxes a single edge and, if it improves its head, seeds the heap with it.
+     */
+    private void relaxInto(int id) {
+        int u = from[id], v = to[id];
+        if (dist[u] == UNREACHABLE) return;
+        long candidate = dist[u] + weight[id];
+        if (candidate < dist[v]) {
+            dist[v] = candidate;
+            parentEdge[v] = id;
+            heap.pushOrDecrease(v, candidate);
+        }
+    }
+
+    /**
+     * Dijkstra that only runs from the nodes currently in the heap.
+     */
+    private void propagate() {
+        while (!heap.isEmpty()) {
+            int node = heap.pop();
+            long d = dist[node];
+            int[] edges = outEdges[node];
+            for (int i = 0; i < outSize[node]; i++) {
+                int id = edges[i];
+                int v = to[id];
+                long candidate = d + weight[id];
+                if (candidate < dist[v]) {
+                    dist[v] = candidate;
+                    parentEdge[v] = id;
+                    heap.pushOrDecrease(v, candidate);
+                }
+            }
+        }
+    }
+
+    /**
+     * Resets the shortest path subtree rooted at root, seeds each of its nodes with the best edge entering it from
+     * outside the subtree, then settles the subtree again.
+     */
+    private void repairSubtree(int root) {
+        stamp++;
+
+        // 1. Collect the subtree: children of x are the heads of x's out-edges that are their tree edge
+        int top = 0, count = 0;
+        push(count++, root);
+        affectedStamp[root] = stamp;
+        while (top < count) {
+            int x = stack[top++];
+            int[] edges = outEdges[x];
+            for (int i = 0; i < outSize[x]; i++) {
+                int id = edges[i];
+                int v = to[id];
+                if (parentEdge[v] == id && affectedStamp[v] != stamp) {
+                    affectedStamp[v] = stamp;
+                    push(count++, v);
+                }
+            }
+        }
+
+        // 2. Invalidate the subtree
+        for (int i = 0; i < count; i++) {
+            dist[stack[i]] = UNREACHABLE;
+            parentEdge[stack[i]] = -1;
+        }
+
+        // 3. Seed each node with its best incoming edge from an unaffected node
+        for (int i = 0; i < count; i++) {
+            int x = stack[i];
+            int[] edges = inEdges[x];
+            for (int j = 0; j < inSize[x]; j++) {
+                int id = edges[j];
+                int u = from[id];
+                if (affectedStamp[u] == stamp || dist[u] == UNREACHABLE) continue;
+                long candidate = dist[u] + weight[id];
+                if (candidate < dist[x]) {
+                    dist[x] = candidate;
+                    parentEdge[x] = id;
+                }
+            }
+            if (dist[x] != UNREACHABLE) heap.pushOrDecrease(x, dist[x]);
+        }
+
+        // 4. Settle the subtree; relaxations outside it cannot succeed because distances only grew
+        propagate();
+    }
+
+    private void push(int index, int node) {
+        if (index == stack.length) stack = Arrays.copyOf(stack, stack.length << 1);
+        stack[index] = node;
+    }
+}
@@ -0,0 +1,11 @@
+package graph.shortestPath;
+
+class Edge {
+    int v;
+    int weight;
+
+    Edge(int v, int weight) {
+        this.v = v;
+        this.weight = weight;
+    }
+}
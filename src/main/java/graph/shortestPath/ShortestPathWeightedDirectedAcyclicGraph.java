@@ -126,13 +126,3 @@ public class ShortestPathWeightedDirectedAcyclicGraph {
     }
 
 }
-
-class Edge {
-    int v;
-    int weight;
-
-    Edge(int v, int weight) {
-        this.v = v;
-        this.weight = weight;
-    }
-}
@@ -0,0 +1,225 @@
+package graph.shortestPath;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+public class ShortestPathZeroOneBFS {
+
+    private static final int INF = Integer.MAX_VALUE;
+    private static final int[][] MOVES = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+
+    public static void main(String[] args) {
+        int totalNodes = 6;
+        ArrayList<ArrayList<ShortestPathDijkstra.Node>> adj = new ArrayList<>();
+
+        // Initialize adjacency list for the graph
+        for (int i = 0; i < totalNodes; i++) {
+            adj.add(new ArrayList<>());
+        }
+
+        // Constructing the graph with 0/1 weighted edges
+        adj.get(0).add(new ShortestPathDijkstra.Node(1, 1));
+        adj.get(0).add(new ShortestPathDijkstra.Node(2, 0));
+        adj.get(2).add(new ShortestPathDijkstra.Node(1, 0));
+        adj.get(1).add(new ShortestPathDijkstra.Node(3, 1));
+        adj.get(3).add(new ShortestPathDijkstra.Node(4, 0));
+        adj.get(2).add(new ShortestPathDijkstra.Node(4, 1));
+
+        ShortestPathZeroOneBFS obj = new ShortestPathZeroOneBFS();
+        int[] dist = obj.shortestPath(adj, totalNodes, 0);
+        for (int d : dist) {
+            System.out.print(d + " ");
+        }
+        System.out.println();
+
+        // Grid in the cses.graphs layout: 1 = open cell, 0 = wall.
+        // Moving into an open cell is free, breaking into a wall costs 1.
+        int[][] grid = {
+                {1, 0, 1, 1},
+                {1, 0, 0, 1},
+                {1, 1, 0, 1},
+                {0, 1, 0, 1}
+        };
+        int[][] walls = obj.gridShortestPath(grid, 0, 0);
+        System.out.println("Walls to break to reach bottom-right: " + walls[3][3]);
+    }
+
+    /**
+     * Implements 0-1 BFS to find the shortest path in a graph whose edge weights are all 0 or 1.
+     *
+     * Overview:
+     * This method calculates the shortest paths from a given source node to all other nodes, like Dijkstra,
+     * but in O(V + E) time and without a heap, by exploiting that every edge weight is either 0 or 1.
+     *
+     * Intuition:
+     * Dijkstra's priority queue only ever holds nodes whose distances are d or d + 1, where d is the distance of the node
+     * being processed. A deque can keep that order for free:
+     * - A node reached through a 0-weight edge has the same distance as the current node, so it is pushed to the front.
+     * - A node reached through a 1-weight edge has distance d + 1, so it is pushed to the back.
+     * The deque therefore stays sorted by distance and the front is always the next node Dijkstra would pick.
+     *
+     * Data Structures Used:
+     * - Distance array to store the shortest distance from the source to each node
+     * - IntDeque: a growable ring buffer of primitive ints used as a double-ended queue
+     *
+     * Algorithm Description:
+     * 1. Initialize the distance array with infinity for all nodes except the source.
+     * 2. Push the source into the deque.
+     * 3. Pop the front node; for each neighbor, if a shorter path is found update its distance and push it
+     *    to the front for a 0-weight edge, or to the back for a 1-weight edge.
+     * 4. Repeat until the deque is empty. Nodes that remain untraversed are marked as -1.
+     *
+     * Time Complexity: O(V + E), where V is the number of vertices and E is the number of edges.
+     * Space Complexity: O(V), for the distance array and the deque.
+     * Edge Cases:
+     * - The graph may contain disconnected components.
+     * - A node can be pushed more than once; stale entries are harmless because their relaxations never succeed.
+     *
+     * Limitations:
+     * - Every edge weight must be 0 or 1.
+     *
+     * @param adj the adjacency list representing the graph (Node.u = neighbor, Node.w = edge weight)
+     * @param totalNodes the total number of nodes in the graph
+     * @param src the source node
+     * @return an array of shortest distances from the source to each node, -1 if unreachable
+     * @throws IllegalArgumentException if an edge weight is not 0 or 1
+     */
+    public int[] shortestPath(ArrayList<ArrayList<ShortestPathDijkstra.Node>> adj, int totalNodes, int src) {
+        int[] dist = new int[totalNodes];
+        Arrays.fill(dist, INF);
+        dist[src] = 0;
+
+        IntDeque deque = new IntDeque(totalNodes);
+        deque.addLast(src);
+
+        while (!deque.isEmpty()) {
+            int node = deque.pollFirst();
+            for (ShortestPathDijkstra.Node neighbor : adj.get(node)) {
+                int weight = neighbor.w;
+                if (weight != 0 && weight != 1) {
+                    throw new IllegalArgumentException("Edge weight must be 0 or 1, found " + weight);
+                }
+                if (dist[node] + weight < dist[neighbor.u]) {
+                    dist[neighbor.u] = dist[node] + weight;
+                    if (weight == 0) deque.addFirst(neighbor.u);
+                    else deque.addLast(neighbor.u);
+                }
+            }
+        }
+
+        // Mark unreachable nodes as -1.
+        for (int i = 0; i < totalNodes; i++) {
+            if (dist[i] == INF) dist[i] = -1;
+        }
+        return dist;
+    }
+
+    /**
+     * 0-1 BFS over an edge list, in the layout used by ShortestPathUndirectedUnitWeightGraphBFS
+     * with an extra weight column: edges[i] = {u, v, w}.
+     *
+     * @param edges the edges of the graph
+     * @param n the total number of nodes in the graph
+     * @param src the source node
+     * @param directed whether edges are one-way (u -> v) or undirected
+     * @return an array of shortest distances from the source to each node, -1 if unreachable
+     * @throws IllegalArgumentException if an edge weight is not 0 or 1
+     */
+    public int[] shortestPath(int[][] edges, int n, int src, boolean directed) {
+        ArrayList<ArrayList<ShortestPathDijkstra.Node>> adj = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            adj.add(new ArrayList<>());
+        }
+        for (int[] edge : edges) {
+            adj.get(edge[0]).add(new ShortestPathDijkstra.Node(edge[1], edge[2]));
+            if (!directed) adj.get(edge[1]).add(new ShortestPathDijkstra.Node(edge[0], edge[2]));
+        }
+        return shortestPath(adj, n, src);
+    }
+
+    /**
+     * 0-1 BFS over a grid in the layout used by cses.graphs (A[r][c] == 1 is an open cell, 0 is a wall).
+     * Moving into an open cell costs 0 and moving into a wall costs 1, so the result is the minimum number of
+     * walls that must be broken to reach each cell. Cells are addressed as r * n + c inside the deque.
+     *
+     * @param grid the grid, 1 = open cell, 0 = wall
+     * @param srcRow the row of the start cell
+     * @param srcCol the column of the start cell
+     * @return dist[r][c] = minimum walls broken to reach (r, c)
+     */
+    public int[][] gridShortestPath(int[][] grid, int srcRow, int srcCol) {
+        int m = grid.length, n = grid[0].length;
+        int[][] dist = new int[m][n];
+        for (int[] row : dist) {
+            Arrays.fill(row, INF);
+        }
+        dist[srcRow][srcCol] = 0;
+
+        IntDeque deque = new IntDeque(m * n);
+        deque.addLast(srcRow * n + srcCol);
+
+        while (!deque.isEmpty()) {
+            int cell = deque.pollFirst();
+            int r = cell / n, c = cell % n;
+            for (int[] move : MOVES) {
+                int nr = r + move[0], nc = c + move[1];
+                if (nr < 0 || nr >= m || nc < 0 || nc >= n) continue;
+                int weight = grid[nr][nc] == 1 ? 0 : 1;
+                if (dist[r][c] + weight < dist[nr][nc]) {
+                    dist[nr][nc] = dist[r][c] + weight;
+                    if (weight == 0) deque.addFirst(nr * n + nc);
+                    else deque.addLast(nr * n + nc);
+                }
+            }
+        }
+        return dist;
+    }
+
+    /**
+     * Double-ended queue of primitive ints backed by a power-of-two ring buffer, doubling when full.
+     */
+    static class IntDeque {
+        private int[] buffer;
+        private int head; // index of the first element
+        private int size;
+
+        IntDeque(int expectedSize) {
+            int capacity = Integer.highestOneBit(Math.min(Math.max(16, expectedSize - 1), 1 << 29)) << 1;
+            buffer = new int[capacity];
+        }
+
+        void addFirst(int value) {
+            if (size == buffer.length) grow();
+            head = (head - 1) & (buffer.length - 1);
+            buffer[head] = value;
+            size++;
+        }
+
+        void addLast(int value) {
+            if (size == buffer.length) grow();
+            buffer[(head + size) & (buffer.length - 1)] = value;
+            size++;
+        }
+
+        int pollFirst() {
+            int value = buffer[head];
+            head = (head + 1) & (buffer.length - 1);
+            size--;
+            return value;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        private void grow() {
+            int[] bigger = new int[buffer.length << 1];
+            // Unroll the ring so the elements start at index 0 of the new buffer
+            int firstPart = Math.min(size, buffer.length - head);
+            System.arraycopy(buffer, head, bigger, 0, firstPart);
+            System.arraycopy(buffer, 0, bigger, firstPart, size - firstPart);
+            buffer = bigger;
+            head = 0;
+        }
+    }
+}
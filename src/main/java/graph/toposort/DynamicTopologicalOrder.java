@@ -0,0 +1,267 @@
+package graph.toposort;
+
+import java.util.Arrays;
+
+public class DynamicTopologicalOrder {
+
+    private final int totalNodes;
+    private final int[] ord;      // position of every node in the current order
+    private final int[] nodeAt;   // inverse of ord
+
+    // Growable adjacency in both directions
+    private final int[][] out;
+    private final int[] outSize;
+    private final int[][] in;
+    private final int[] inSize;
+
+    // Search state, reused across insertions; a node is visited when mark[node] == epoch
+    private final int[] mark;
+    private final int[] via;      // forward search: the node the search came from
+    private int epoch;
+    private int[] stack;
+    private int[] forward;
+    private int forwardSize;
+    private int[] backward;
+    private int backwardSize;
+
+    public static void main(String[] args) {
+        // Same graph as TopologicalSortDFS.main, dependencies arriving one at a time
+        int[][] edges = {{5, 2}, {5, 0}, {4, 0}, {4, 1}, {2, 3}, {3, 1}, {1, 5}};
+        DynamicTopologicalOrder topo = new DynamicTopologicalOrder(6);
+        for (int[] edge : edges) {
+            int[] cycle = topo.addEdge(edge[0], edge[1]);
+            if (cycle == null) {
+                System.out.println("Added " + edge[0] + " -> " + edge[1] + ", order: " + Arrays.toString(topo.order()));
+            } else {
+                System.out.println("Rejected " + edge[0] + " -> " + edge[1] + ", it would close the cycle " + Arrays.toString(cycle));
+            }
+        }
+    }
+
+    /**
+     * Maintains a topological order of a growing DAG with the Pearce–Kelly algorithm, rejecting edges that would
+     * close a cycle.
+     *
+     * Overview:
+     * Checking a DAG after every new edge with `TopologicalSortDFS.topoSort` costs O(V + E) per edge. Most insertions,
+     * however, either agree with the current order or only disturb a small part of it. Pearce–Kelly keeps an explicit
+     * order and, when an edge u -> v points backwards (v is currently placed before u), repairs only the nodes
+     * positioned between v and u that are actually affected.
+     *
+     * Intuition:
+     * - If ord[u] < ord[v] the order is still valid; nothing to do.
+     * - Otherwise let the affected region be the positions [ord[v], ord[u]]. Only nodes reachable from v (forward)
+     *   and nodes that reach u (backward) inside that region can be out of place. A forward search from v that stays
+     *   inside the region and reaches u has found a cycle: v ~> u -> v.
+     * - Without a cycle, the backward set must come before the forward set. Both sets are sorted by their old
+     *   positions, and the pool of positions they occupied is handed out again: first to the backward nodes, then to
+     *   the forward nodes, each keeping its internal relative order. All other nodes keep their positions.
+     *
+     * Data Structures Used:
+     * - ord[] and nodeAt[]: the order and its inverse
+     * - out / in adjacency as growable int arrays per node
+     * - mark[] with an epoch counter, so the searches never clear a visited array
+     *
+     * Time Complexity: O(δ log δ) per insertion, where δ counts the nodes and edges of the affected region that the
+     * searches visit. Edges that agree with the order cost O(1).
+     * Space Complexity: O(V + E).
+     * Edge Cases:
+     * - A self loop is rejected as the cycle [u].
+     * - Parallel edges are allowed.
+     *
+     * @param totalNodes the total number of nodes in the graph
+     */
+    public DynamicTopologicalOrder(int totalNodes) {
+        this.totalNodes = totalNodes;
+        ord = new int[totalNodes];
+        nodeAt = new int[totalNodes];
+        out = new int[totalNodes][];
+        in = new int[totalNodes][];
+        outSize = new int[totalNodes];
+        inSize = new int[totalNodes];
+        for (int i = 0; i < totalNodes; i++) {
+            ord[i] = i;
+            nodeAt[i] = i;
+            out[i] = new int[2];
+            in[i] = new int[2];
+        }
+        mark = new int[totalNodes];
+        via = new int[totalNodes];
+        stack = new int[16];
+        forward = new int[16];
+        backward = new int[16];
+    }
+
+    /**
+     * Adds the edge u -> v unless it would close a cycle.
+     *
+     * @param u the source of the edge
+     * @param v the target of the edge
+     * @return null if the edge was added, otherwise the cycle it would close as the path v, ..., u
+     * (which the new edge u -> v would complete)
+     */
+    public int[] addEdge(int u, int v) {
+        if (u == v) return new int[]{u};
+        int lowerBound = ord[v], upperBound = ord[u];
+        if (lowerBound > upperBound) {
+            append(u, v);
+            return null;
+        }
+
+        epoch++;
+        if (!searchForward(v, u, upperBound)) {
+            return cycle(v, u);
+        }
+        searchBackward(u, lowerBound);
+        reorder();
+        append(u, v);
+        return null;
+    }
+
+    /**
+     * Removes one copy of the edge u -> v. Removing an edge never invalidates a topological order.
+     *
+     * @return true if the edge was present
+     */
+    public boolean removeEdge(int u, int v) {
+        if (!remove(out[u], outSize, u, v)) return false;
+        remove(in[v], inSize, v, u);
+        return true;
+    }
+
+    /**
+     * @return the current topological order
+     */
+    public int[] order() {
+        return Arrays.copyOf(nodeAt, totalNodes);
+    }
+
+    /**
+     * @return the position of node in the current topological order
+     */
+    public int position(int node) {
+        return ord[node];
+    }
+
+    /**
+     * Depth-first search from start over nodes positioned at most upperBound, collecting them in forward[].
+     *
+     * @return false if target was reached, i.e. the new edge closes a cycle
+     */
+    private boolean searchForward(int start, int target, int upperBound) {
+        forwardSize = 0;
+        int top = 0;
+        mark[start] = epoch;
+        via[start] = -1;
+        stack[top++] = start;
+        while (top > 0) {
+            int x = stack[--top];
+            forward = push(forward, forwardSize++, x);
+            for (int i = 0; i < outSize[x]; i++) {
+                int y = out[x][i];
+                if (y == target) {
+                    via[y] = x;
+                    return false;
+                }
+                if (mark[y] == epoch || ord[y] > upperBound) continue;
+                mark[y] = epoch;
+                via[y] = x;
+                stack = push(stack, top++, y);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Depth-first search backwards from start over nodes positioned at least lowerBound, collecting them in backward[].
+     * Cannot meet the forward set, otherwise the forward search would have reached start.
+     */
+    private void searchBackward(int start, int lowerBound) {
+        backwardSize = 0;
+        int top = 0;
+        mark[start] = epoch;
+        stack[top++] = start;
+        while (top > 0) {
+            int x = stack[--top];
+            backward = push(backward, backwardSize++, x);
+            for (int i = 0; i < inSize[x]; i++) {
+                int y = in[x][i];
+                if (mark[y] == epoch || ord[y] < lowerBound) continue;
+                mark[y] = epoch;
+                stack = push(stack, top++, y);
+            }
+        }
+    }
+
+    /**
+     * Hands the positions of the affected nodes out again: backward nodes first, then forward nodes,
+     * each group keeping its relative order.
+     */
+    private void reorder() {
+        sortByPosition(backward, backwardSize);
+        sortByPosition(forward, forwardSize);
+
+        int total = backwardSize + forwardSize;
+        int[] positions = new int[total];
+        int[] nodes = new int[total];
+        for (int i = 0; i < backwardSize; i++) {
+            nodes[i] = backward[i];
+            positions[i] = ord[backward[i]];
+        }
+        for (int i = 0; i < forwardSize; i++) {
+            nodes[backwardSize + i] = forward[i];
+            positions[backwardSize + i] = ord[forward[i]];
+        }
+        Arrays.sort(positions);
+        for (int i = 0; i < total; i++) {
+            ord[nodes[i]] = positions[i];
+            nodeAt[positions[i]] = nodes[i];
+        }
+    }
+
+    private void sortByPosition(int[] nodes, int size) {
+        long[] keys = new long[size];
+        for (int i = 0; i < size; i++) {
+            keys[i] = ((long) ord[nodes[i]] << 32) | nodes[i];
+        }
+        Arrays.sort(keys);
+        for (int i = 0; i < size; i++) {
+            nodes[i] = (int) keys[i];
+        }
+    }
+
+    /**
+     * Rebuilds the path v ~> u found by the forward search from the via[] pointers.
+     */
+    private int[] cycle(int v, int u) {
+        int length = 0;
+        for (int x = u; x != -1; x = via[x]) length++;
+        int[] path = new int[length];
+        for (int x = u; x != -1; x = via[x]) path[--length] = x;
+        return path;
+    }
+
+    private void append(int u, int v) {
+        out[u] = push(out[u], outSize[u]++, v);
+        in[v] = push(in[v], inSize[v]++, u);
+    }
+
+    private static boolean remove(int[] list, int[] sizes, int owner, int value) {
+        for (int i = 0; i < sizes[owner]; i++) {
+            if (list[i] == value) {
+                list[i] = list[--sizes[owner]];
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Stores value at index, growing the array if needed, and returns the (possibly new) array.
+     */
+    private static int[] push(int[] array, int index, int value) {
+        if (index == array.length) array = Arrays.copyOf(array, Math.max(2, array.length << 1));
+        array[index] = value;
+        return array;
+    }
+}
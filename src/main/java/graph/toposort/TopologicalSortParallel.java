@@ -0,0 +1,200 @@
+package graph.toposort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+public class TopologicalSortParallel {
+
+    private static final int PARALLEL_THRESHOLD = 1 << 12; // smaller frontiers are processed on the calling thread
+
+    private final int totalNodes;
+    private final int[] offsets; // CSR: the successors of u are targets[offsets[u]..offsets[u+1])
+    private final int[] targets;
+
+    public static void main(String[] args) {
+        ArrayList<ArrayList<Integer>> adj = new ArrayList<>();
+        int totalNodes = 6;
+        for (int i = 0; i < totalNodes; i++) {
+            adj.add(new ArrayList<>());
+        }
+
+        // Same graph as TopologicalSortBFS.main
+        adj.get(5).add(2);
+        adj.get(5).add(0);
+        adj.get(4).add(0);
+        adj.get(4).add(1);
+        adj.get(3).add(1);
+        adj.get(2).add(3);
+
+        Levels levels = new TopologicalSortParallel(totalNodes, adj).sort();
+        System.out.println("Acyclic: " + levels.isAcyclic() + ", order: " + Arrays.toString(levels.order));
+        for (int k = 0; k < levels.levelCount(); k++) {
+            System.out.println("Level " + k + ": " + Arrays.toString(Arrays.copyOfRange(levels.order, levels.levelStart[k], levels.levelStart[k + 1])));
+        }
+    }
+
+    /**
+     * Result of a level-synchronous topological sort.
+     */
+    public static class Levels {
+        /** Nodes in topological order, level by level, ascending node id within a level. Only acyclic nodes appear. */
+        public final int[] order;
+        /** Level (longest distance in edges from a source) of every node, -1 for nodes on or behind a cycle. */
+        public final int[] level;
+        /** The nodes of level k are order[levelStart[k]..levelStart[k + 1]). */
+        public final int[] levelStart;
+
+        Levels(int[] order, int[] level, int[] levelStart) {
+            this.order = order;
+            this.level = level;
+            this.levelStart = levelStart;
+        }
+
+        public int levelCount() {
+            return levelStart.length - 1;
+        }
+
+        /**
+         * @return true if every node was ordered, i.e. the graph has no cycle
+         */
+        public boolean isAcyclic() {
+            return order.length == level.length;
+        }
+    }
+
+    /**
+     * Builds the engine from an adjacency list in the TopologicalSortBFS layout.
+     *
+     * @param totalNodes the total number of nodes in the graph
+     * @param adj the adjacency list representing the graph
+     */
+    public TopologicalSortParallel(int totalNodes, ArrayList<ArrayList<Integer>> adj) {
+        this.totalNodes = totalNodes;
+        offsets = new int[totalNodes + 1];
+        for (int u = 0; u < totalNodes; u++) {
+            offsets[u + 1] = offsets[u] + adj.get(u).size();
+        }
+        targets = new int[offsets[totalNodes]];
+        for (int u = 0; u < totalNodes; u++) {
+            int i = offsets[u];
+            for (int v : adj.get(u)) {
+                targets[i++] = v;
+            }
+        }
+    }
+
+    /**
+     * Builds the engine from an edge list given as parallel primitive arrays (edge u -> v for every index).
+     *
+     * @param totalNodes the total number of nodes in the graph
+     * @param from the source of each edge
+     * @param to the target of each edge
+     */
+    public TopologicalSortParallel(int totalNodes, int[] from, int[] to) {
+        this.totalNodes = totalNodes;
+        offsets = new int[totalNodes + 1];
+        for (int u : from) {
+            offsets[u + 1]++;
+        }
+        Arrays.parallelPrefix(offsets, Integer::sum);
+        targets = new int[from.length];
+        int[] fill = Arrays.copyOf(offsets, totalNodes);
+        for (int e = 0; e < from.length; e++) {
+            targets[fill[from[e]]++] = to[e];
+        }
+    }
+
+    /**
+     * Topologically sorts the graph with a level-synchronous, parallel version of Kahn's algorithm.
+     *
+     * Overview:
+     * `TopologicalSortBFS.isCyclic` runs Kahn's algorithm one node at a time through a LinkedList queue and only
+     * reports whether a cycle exists. Here all nodes whose in-degree is zero at the same time form a frontier (a level),
+     * and the whole frontier is processed in parallel. The result is the order plus the level of every node, which is
+     * directly a parallel schedule: every node of level k only depends on nodes of levels below k.
+     *
+     * Intuition:
+     * Removing a whole frontier at once is still Kahn's algorithm: none of the frontier nodes depends on another one.
+     * Several frontier nodes may share a successor, so in-degrees are decremented atomically, and exactly one thread
+     * sees a successor's count reach zero; that thread appends it to the next frontier. The level of a node is the
+     * length of the longest path from a source to it.
+     *
+     * Data Structures Used:
+     * - CSR adjacency (offsets[] + targets[]) instead of boxed lists
+     * - AtomicIntegerArray of in-degrees
+     * - order[] doubles as the frontier queue: level k occupies a contiguous slice, and the next level is appended
+     *   right after it through an atomic cursor
+     *
+     * Algorithm Description:
+     * 1. Compute in-degrees in parallel over all nodes.
+     * 2. Collect the nodes with in-degree zero as level 0.
+     * 3. For every level, in parallel over its nodes, decrement the in-degree of their successors and append the ones
+     *    that reach zero. Each level is sorted afterwards, so the output does not depend on thread timing.
+     * 4. Nodes never reached are on a cycle or reachable from one.
+     *
+     * Time Complexity: O(V log V + E) work, with O(L) synchronization rounds for L levels.
+     * Space Complexity: O(V + E).
+     * Edge Cases:
+     * - A self loop makes its node cyclic.
+     * - Frontiers smaller than PARALLEL_THRESHOLD are processed on the calling thread to avoid fork/join overhead.
+     *
+     * @return the topological order, the level of every node and the level boundaries
+     */
+    public Levels sort() {
+        AtomicIntegerArray inDegree = new AtomicIntegerArray(totalNodes);
+        IntStream.range(0, totalNodes).parallel().forEach(u -> {
+            for (int i = offsets[u]; i < offsets[u + 1]; i++) {
+                inDegree.incrementAndGet(targets[i]);
+            }
+        });
+
+        int[] level = new int[totalNodes];
+        Arrays.fill(level, -1);
+        int[] sources = IntStream.range(0, totalNodes).parallel().filter(u -> inDegree.get(u) == 0).toArray();
+        int[] order = Arrays.copyOf(sources, totalNodes);
+        AtomicInteger end = new AtomicInteger(sources.length);
+
+        int[] levelStart = new int[16];
+        int levels = 0;
+        int start = 0;
+
+        while (start < end.get()) {
+            int from = start, to = end.get();
+            if (levels + 1 >= levelStart.length) levelStart = Arrays.copyOf(levelStart, levelStart.length << 1);
+            levelStart[levels] = from;
+            int current = levels++;
+
+            if (to - from < PARALLEL_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    relax(order[i], current, inDegree, level, order, end);
+                }
+            } else {
+                IntStream.range(from, to).parallel().forEach(i -> relax(order[i], current, inDegree, level, order, end));
+            }
+
+            // Appends race with each other, so fix the order of the next level
+            if (end.get() - to < PARALLEL_THRESHOLD) Arrays.sort(order, to, end.get());
+            else Arrays.parallelSort(order, to, end.get());
+            start = to;
+        }
+        levelStart[levels] = start;
+
+        return new Levels(Arrays.copyOf(order, start), level, Arrays.copyOf(levelStart, levels + 1));
+    }
+
+    /**
+     * Marks u as being on the given level and appends every successor whose in-degree drops to zero.
+     */
+    private void relax(int u, int current, AtomicIntegerArray inDegree, int[] level, int[] order, AtomicInteger end) {
+        level[u] = current;
+        for (int i = offsets[u]; i < offsets[u + 1]; i++) {
+            int v = targets[i];
+            if (inDegree.decrementAndGet(v) == 0) {
+                order[end.getAndIncrement()] = v;
+            }
+        }
+    }
+}
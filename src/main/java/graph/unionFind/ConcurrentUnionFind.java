@@ -0,0 +1,135 @@
+package graph.unionFind;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+public class ConcurrentUnionFind {
+
+    private final AtomicIntegerArray parent;
+
+    public static void main(String[] args) {
+        int totalNodes = 8;
+        ConcurrentUnionFind uf = new ConcurrentUnionFind(totalNodes);
+
+        // Edges ingested from several threads at once
+        int[] u = {0, 1, 3, 5, 6, 2};
+        int[] v = {1, 2, 4, 6, 7, 0};
+        int merged = uf.unionAll(u, v);
+        System.out.println("Merging unions: " + merged + ", components: " + (totalNodes - merged));
+        System.out.println("0 and 2 connected: " + uf.sameSet(0, 2) + ", 2 and 3 connected: " + uf.sameSet(2, 3));
+        System.out.println("Labels: " + Arrays.toString(uf.componentLabels()));
+    }
+
+    /**
+     * Creates a union-find over nodes 0..totalNodes-1 that can be used from many threads at once without locks.
+     *
+     * Overview:
+     * `UnionFind` and `DisjointSetUnionFind` mutate plain arrays, so connectivity over an edge stream has to run on one
+     * thread. Here every parent pointer lives in an AtomicIntegerArray and every write is a compare-and-set (CAS), so any
+     * number of threads may call union, find and sameSet concurrently, e.g. from a parallel stream over edges.
+     *
+     * Intuition:
+     * - Linking by index: a root is only ever hung under a root with a larger index. Parent indices therefore strictly
+     *   increase along every path, so concurrent unions can never create a cycle, no matter how they interleave.
+     *   Linking is a single CAS on parent[root] from root to the other root; if it fails, someone else just changed that
+     *   root, so the union looks up the new roots and retries.
+     * - Path splitting: while walking up, find points each node at its grandparent with a CAS. A failed CAS is simply
+     *   ignored (another thread already moved the pointer higher up), so find never retries and is wait-free.
+     *   Splitting only ever replaces a parent by one of its ancestors, which keeps the index order intact.
+     * - sameSet: two finds are not one atomic step, because a root can get linked between them. The answer "different"
+     *   is only trusted if the first root is still a root afterwards; otherwise the check is repeated.
+     *
+     * Data Structures Used:
+     * - parent: AtomicIntegerArray of parent pointers, roots point to themselves
+     *
+     * Time Complexity: O(log n) expected amortized per operation for random edge orders. The worst case is higher than
+     * union by size, which cannot be kept consistent without locks.
+     * Space Complexity: O(n).
+     *
+     * Limitations:
+     * - No set sizes and no component counter are maintained; count the unions that return true instead.
+     *
+     * @param totalNodes the total number of nodes
+     */
+    public ConcurrentUnionFind(int totalNodes) {
+        parent = new AtomicIntegerArray(totalNodes);
+        for (int i = 0; i < totalNodes; i++) {
+            parent.set(i, i);
+        }
+    }
+
+    /**
+     * Finds the current representative of the set containing node, splitting the path on the way.
+     * Wait-free: a lost CAS is not retried.
+     *
+     * @param node the node to find the representative of
+     * @return the representative of the set at some point during the call
+     */
+    public int find(int node) {
+        while (true) {
+            int p = parent.get(node);
+            if (p == node) return node;
+            int grandParent = parent.get(p);
+            // Path splitting: point node at its grandparent; losing the race is harmless
+            if (p != grandParent) parent.compareAndSet(node, p, grandParent);
+            node = p;
+        }
+    }
+
+    /**
+     * Unions the sets containing nodes u and v, linking the root with the smaller index under the other root.
+     *
+     * @param u the first node
+     * @param v the second node
+     * @return true if this call merged two different sets, false if they were already the same set
+     */
+    public boolean union(int u, int v) {
+        while (true) {
+            u = find(u);
+            v = find(v);
+            if (u == v) return false;
+            if (u > v) {
+                int tmp = u;
+                u = v;
+                v = tmp;
+            }
+            // Succeeds only if u is still a root; otherwise retry from the new roots
+            if (parent.compareAndSet(u, u, v)) return true;
+        }
+    }
+
+    /**
+     * @return true if u and v are in the same set, consistent with the unions completed before the call
+     */
+    public boolean sameSet(int u, int v) {
+        while (true) {
+            u = find(u);
+            v = find(v);
+            if (u == v) return true;
+            // u and v were different roots; that is only an answer if u was not linked in the meantime
+            if (parent.get(u) == u) return false;
+        }
+    }
+
+    /**
+     * Unions u[i] with v[i] for every i, in parallel.
+     *
+     * @param u the first node of each pair
+     * @param v the second node of each pair
+     * @return the number of unions that merged two different sets
+     */
+    public int unionAll(int[] u, int[] v) {
+        return (int) IntStream.range(0, u.length).parallel().filter(i -> union(u[i], v[i])).count();
+    }
+
+    /**
+     * Labels every node with the representative of its set, in parallel.
+     * Should be called once no union is running, otherwise labels may mix old and new roots.
+     *
+     * @return the representative of every node
+     */
+    public int[] componentLabels() {
+        return IntStream.range(0, parent.length()).parallel().map(this::find).toArray();
+    }
+}
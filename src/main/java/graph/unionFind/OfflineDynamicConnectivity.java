@@ -0,0 +1,258 @@
+package graph.unionFind;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public class OfflineDynamicConnectivity {
+
+    private final int totalNodes;
+
+    // Event log
+    private int[] eventType = new int[16];
+    private int[] eventU = new int[16];
+    private int[] eventV = new int[16];
+    private int eventCount;
+    private int queryCount;
+
+    private static final int ADD = 0;
+    private static final int REMOVE = 1;
+    private static final int QUERY = 2;
+
+    // Filled by solve(): edge lifetimes [aliveFrom, aliveTo) over query indices, and the segment tree over query time
+    private int[] aliveFrom;
+    private int[] aliveTo;
+    private int[] aliveU;
+    private int[] aliveV;
+    private int lifetimes;
+    private int[] nodeStart;   // CSR offsets: the edges of segment tree node x are nodeEdges[nodeStart[x]..nodeStart[x+1])
+    private int[] nodeEdges;
+    private int[] queryU;
+    private int[] queryV;
+    private boolean[] answers;
+    private RollbackUnionFind dsu;
+
+    public static void main(String[] args) {
+        OfflineDynamicConnectivity connectivity = new OfflineDynamicConnectivity(4);
+        connectivity.addEdge(0, 1);
+        connectivity.addEdge(1, 2);
+        connectivity.query(0, 2);    // true
+        connectivity.removeEdge(1, 2);
+        connectivity.query(0, 2);    // false
+        connectivity.addEdge(2, 3);
+        connectivity.addEdge(3, 0);
+        connectivity.query(0, 2);    // true, through 3
+        connectivity.query(1, 3);    // true
+        connectivity.removeEdge(0, 1);
+        connectivity.query(1, 3);    // false
+
+        System.out.println(Arrays.toString(connectivity.solve()));
+    }
+
+    /**
+     * Answers "are u and v connected at this point" over a log of edge insertions and deletions, offline.
+     *
+     * Overview:
+     * A union-find handles insertions but not deletions, and rebuilding it per query costs O(E) each. Offline, though,
+     * the whole log is known, so every edge occurrence has a lifetime: the range of queries between its insertion and
+     * its deletion (or the end of the log). The solver only ever needs to add an edge for a range of time and take it
+     * back afterwards, which a `RollbackUnionFind` can do.
+     *
+     * Intuition:
+     * Build a segment tree over query times 0..Q-1. Each edge lifetime [l, r) is split into O(log Q) tree nodes that
+     * exactly cover it, like a range update. A depth-first walk of the tree then unions the edges of a node on the way
+     * down and rolls them back on the way up. When the walk reaches leaf t, exactly the edges alive at query t have
+     * been unioned, so the query is a plain find.
+     *
+     * Data Structures Used:
+     * - an event log in growable int arrays
+     * - HashMap from an undirected edge key to the insertion times of its open copies, so parallel edges are allowed
+     * - the segment tree's edge lists stored as one CSR array (offsets + edge ids) instead of a list per node
+     * - RollbackUnionFind: union by size, no path compression, O(log V) find
+     *
+     * Algorithm Description:
+     * 1. Replay the log, turning every insertion / deletion pair into a lifetime over query indices.
+     *    Lifetimes that contain no query are dropped.
+     * 2. Insert every lifetime into the segment tree (count per node, then fill, to build the CSR arrays).
+     * 3. DFS the tree with snapshot / union / rollback and answer the query at every leaf.
+     *
+     * Time Complexity: O(E log Q log V + Q log V) where E is the number of insertions and Q the number of queries.
+     * Space Complexity: O(V + E log Q + Q).
+     * Edge Cases:
+     * - Removing an edge that is not present throws an IllegalArgumentException.
+     * - Edges are undirected; (u, v) and (v, u) are the same edge. A query (u, u) is always true.
+     *
+     * @param totalNodes the total number of nodes in the graph
+     */
+    public OfflineDynamicConnectivity(int totalNodes) {
+        this.totalNodes = totalNodes;
+    }
+
+    /**
+     * Logs the insertion of the undirected edge (u, v).
+     */
+    public void addEdge(int u, int v) {
+        log(ADD, u, v);
+    }
+
+    /**
+     * Logs the deletion of one copy of the undirected edge (u, v).
+     */
+    public void removeEdge(int u, int v) {
+        log(REMOVE, u, v);
+    }
+
+    /**
+     * Logs a connectivity query between u and v.
+     *
+     * @return the index of this query in the array returned by solve()
+     */
+    public int query(int u, int v) {
+        log(QUERY, u, v);
+        return queryCount++;
+    }
+
+    /**
+     * Answers every logged query.
+     *
+     * @return answers[i] is true if the endpoints of query i were connected when it was logged
+     */
+    public boolean[] solve() {
+        answers = new boolean[queryCount];
+        if (queryCount == 0) return answers;
+        collectLifetimes();
+        dsu = new RollbackUnionFind(totalNodes);
+        walk(1, 0, queryCount);
+        return answers;
+    }
+
+    private void log(int type, int u, int v) {
+        if (u < 0 || u >= totalNodes || v < 0 || v >= totalNodes) {
+            throw new IllegalArgumentException("Invalid edge (" + u + ", " + v + ")");
+        }
+        if (eventCount == eventType.length) {
+            int capacity = eventCount << 1;
+            eventType = Arrays.copyOf(eventType, capacity);
+            eventU = Arrays.copyOf(eventU, capacity);
+            eventV = Arrays.copyOf(eventV, capacity);
+        }
+        eventType[eventCount] = type;
+        eventU[eventCount] = u;
+        eventV[eventCount] = v;
+        eventCount++;
+    }
+
+    /**
+     * Replays the log into edge lifetimes [from, to) over query indices and builds the segment tree lists.
+     */
+    private void collectLifetimes() {
+        queryU = new int[queryCount];
+        queryV = new int[queryCount];
+        aliveFrom = new int[16];
+        aliveTo = new int[16];
+        aliveU = new int[16];
+        aliveV = new int[16];
+        lifetimes = 0;
+
+        Map<Long, ArrayDeque<Integer>> open = new HashMap<>();
+        int time = 0; // number of queries seen so far
+        for (int i = 0; i < eventCount; i++) {
+            int u = eventU[i], v = eventV[i];
+            if (eventType[i] == QUERY) {
+                queryU[time] = u;
+                queryV[time] = v;
+                time++;
+                continue;
+            }
+            long key = ((long) Math.min(u, v) << 32) | Math.max(u, v);
+            if (eventType[i] == ADD) {
+                open.computeIfAbsent(key, k -> new ArrayDeque<>()).push(time);
+                continue;
+            }
+            ArrayDeque<Integer> starts = open.get(key);
+            if (starts == null) {
+                throw new IllegalArgumentException("Edge (" + u + ", " + v + ") removed at event " + i + " is not present");
+            }
+            addLifetime(u, v, starts.pop(), time);
+            if (starts.isEmpty()) open.remove(key);
+        }
+
+        // Edges never removed stay alive until the last query
+        for (Map.Entry<Long, ArrayDeque<Integer>> entry : open.entrySet()) {
+            long key = entry.getKey();
+            for (int start : entry.getValue()) {
+                addLifetime((int) (key >>> 32), (int) key, start, queryCount);
+            }
+        }
+        buildSegmentTree();
+    }
+
+    private void addLifetime(int u, int v, int from, int to) {
+        if (from == to) return; // no query while the edge was present
+        if (lifetimes == aliveFrom.length) {
+            int capacity = lifetimes << 1;
+            aliveFrom = Arrays.copyOf(aliveFrom, capacity);
+            aliveTo = Arrays.copyOf(aliveTo, capacity);
+            aliveU = Arrays.copyOf(aliveU, capacity);
+            aliveV = Arrays.copyOf(aliveV, capacity);
+        }
+        aliveFrom[lifetimes] = from;
+        aliveTo[lifetimes] = to;
+        aliveU[lifetimes] = u;
+        aliveV[lifetimes] = v;
+        lifetimes++;
+    }
+
+    /**
+     * Splits every lifetime over the segment tree and stores the node lists as CSR arrays:
+     * one pass to count the entries of every node, one pass to fill them.
+     */
+    private void buildSegmentTree() {
+        int treeSize = 4 * queryCount;
+        nodeStart = new int[treeSize + 1];
+        for (int e = 0; e < lifetimes; e++) {
+            insert(1, 0, queryCount, aliveFrom[e], aliveTo[e], e, null);
+        }
+        for (int x = 0; x < treeSize; x++) {
+            nodeStart[x + 1] += nodeStart[x];
+        }
+        nodeEdges = new int[nodeStart[treeSize]];
+        int[] fill = Arrays.copyOf(nodeStart, treeSize);
+        for (int e = 0; e < lifetimes; e++) {
+            insert(1, 0, queryCount, aliveFrom[e], aliveTo[e], e, fill);
+        }
+    }
+
+    /**
+     * Adds edge e to the nodes covering [from, to). Counts into nodeStart[x + 1] when fill is null,
+     * otherwise writes e at fill[x] and advances it.
+     */
+    private void insert(int node, int lo, int hi, int from, int to, int e, int[] fill) {
+        if (to <= lo || hi <= from) return;
+        if (from <= lo && hi <= to) {
+            if (fill == null) nodeStart[node + 1]++;
+            else nodeEdges[fill[node]++] = e;
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        insert(2 * node, lo, mid, from, to, e, fill);
+        insert(2 * node + 1, mid, hi, from, to, e, fill);
+    }
+
+    private void walk(int node, int lo, int hi) {
+        int snapshot = dsu.snapshot();
+        for (int i = nodeStart[node]; i < nodeStart[node + 1]; i++) {
+            int e = nodeEdges[i];
+            dsu.union(aliveU[e], aliveV[e]);
+        }
+        if (hi - lo == 1) {
+            answers[lo] = dsu.connected(queryU[lo], queryV[lo]);
+        } else {
+            int mid = (lo + hi) >>> 1;
+            walk(2 * node, lo, mid);
+            walk(2 * node + 1, mid, hi);
+        }
+        dsu.rollback(snapshot);
+    }
+}
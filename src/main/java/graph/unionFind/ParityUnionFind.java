@@ -0,0 +1,148 @@
+package graph.unionFind;
+
+public class ParityUnionFind {
+
+    private final int[] parent;
+    private final int[] size;
+    private final byte[] parity; // side of a node relative to its parent: 0 = same side, 1 = opposite side
+    private int edgeCount;
+    private int firstConflict = -1;
+
+    public static void main(String[] args) {
+        // Same graph as CheckBipartiteGraphBFS.main, edges streamed one at a time, plus its commented-out edge 4 - 6
+        int[][] edges = {{0, 1}, {1, 2}, {2, 3}, {4, 3}, {4, 5}, {5, 6}, {1, 6}, {4, 6}};
+        ParityUnionFind uf = new ParityUnionFind(7);
+        for (int[] edge : edges) {
+            boolean ok = uf.addEdge(edge[0], edge[1]);
+            System.out.println("Edge " + edge[0] + " - " + edge[1] + (ok ? "" : " closes an odd cycle")
+                    + ", bipartite so far: " + uf.isBipartite());
+        }
+        System.out.println("First conflicting edge: #" + uf.firstConflict());
+        System.out.println("0 and 2 on the same side: " + uf.sameSide(0, 2));
+    }
+
+    /**
+     * Checks bipartiteness online: edges arrive one at a time and every insertion is answered in near-constant time.
+     *
+     * Overview:
+     * `CheckBipartiteGraphBFS` and `CheckBipartiteGraphDFS` 2-color the whole graph, so every new edge means a new
+     * O(V + E) traversal. Here each node stores its side relative to its union-find parent, so the side of any node
+     * relative to its root is the XOR of the parities along its path. An edge (u, v) requires u and v on opposite sides:
+     * - if they are in different sets, the sets are merged and one root is flipped as needed to satisfy the edge;
+     * - if they are in the same set, the edge is consistent exactly when their parities to the root differ.
+     *   Otherwise it closes an odd cycle and the graph is no longer bipartite.
+     *
+     * Intuition:
+     * Only relative sides matter, and every component has exactly two valid colorings. Merging two components picks
+     * the one coloring of the second component that agrees with the new edge, which is a single bit on its root.
+     *
+     * Data Structures Used:
+     * - parent[] and size[]: union-find with union by size
+     * - parity[]: side of each node relative to its parent
+     * - find compresses the path in two iterative passes (no recursion): the first finds the root and the node's
+     *   parity to it, the second points every node on the path at the root with its own parity to the root
+     *
+     * Time Complexity: O(α(V)) amortized per edge and per query.
+     * Space Complexity: O(V).
+     * Edge Cases:
+     * - A self loop is an odd cycle, so it always conflicts.
+     * - Conflicting edges do not change the structure; later edges are still checked against the earlier ones.
+     *
+     * @param totalNodes the total number of nodes in the graph
+     */
+    public ParityUnionFind(int totalNodes) {
+        parent = new int[totalNodes];
+        size = new int[totalNodes];
+        parity = new byte[totalNodes];
+        for (int i = 0; i < totalNodes; i++) {
+            parent[i] = i;
+            size[i] = 1;
+        }
+    }
+
+    /**
+     * Adds the undirected edge (u, v). Edges are numbered in insertion order starting at 0.
+     *
+     * @param u the first endpoint
+     * @param v the second endpoint
+     * @return false if the edge closes an odd cycle with the earlier edges, true otherwise
+     */
+    public boolean addEdge(int u, int v) {
+        int id = edgeCount++;
+        int ru = find(u), rv = find(v);
+        int pu = parity[u], pv = parity[v]; // parities to the roots, valid after find
+
+        if (ru == rv) {
+            if (pu != pv) return true;
+            if (firstConflict == -1) firstConflict = id;
+            return false;
+        }
+        if (size[ru] < size[rv]) {
+            int tmp = ru;
+            ru = rv;
+            rv = tmp;
+        }
+        // u and v must end up on opposite sides: parity(u) ^ parity(v) ^ parity[rv] == 1
+        parent[rv] = ru;
+        parity[rv] = (byte) (1 ^ pu ^ pv);
+        size[ru] += size[rv];
+        return true;
+    }
+
+    /**
+     * @return true if no edge added so far closed an odd cycle
+     */
+    public boolean isBipartite() {
+        return firstConflict == -1;
+    }
+
+    /**
+     * @return the id of the first edge that closed an odd cycle, or -1 if the graph is still bipartite
+     */
+    public int firstConflict() {
+        return firstConflict;
+    }
+
+    /**
+     * @return true if u and v are connected and must be on the same side in every 2-coloring
+     */
+    public boolean sameSide(int u, int v) {
+        return find(u) == find(v) && parity[u] == parity[v];
+    }
+
+    /**
+     * @return true if u and v are connected and must be on opposite sides in every 2-coloring
+     */
+    public boolean oppositeSides(int u, int v) {
+        return find(u) == find(v) && parity[u] != parity[v];
+    }
+
+    /**
+     * @return true if u and v are in the same component
+     */
+    public boolean connected(int u, int v) {
+        return find(u) == find(v);
+    }
+
+    /**
+     * Finds the root of node and compresses the path. Afterwards parity[node] is node's side relative to the root.
+     */
+    private int find(int node) {
+        int root = node;
+        int toRoot = 0;
+        while (parent[root] != root) {
+            toRoot ^= parity[root];
+            root = parent[root];
+        }
+        // Second pass: hang every node of the path directly under the root
+        while (node != root) {
+            int next = parent[node];
+            int own = parity[node];
+            parent[node] = root;
+            parity[node] = (byte) toRoot;
+            toRoot ^= own;
+            node = next;
+        }
+        return root;
+    }
+}
@@ -0,0 +1,142 @@
+package graph.unionFind;
+
+public class RollbackUnionFind {
+
+    private final int[] parent;
+    private final int[] size;
+    private final int[] history; // roots that were linked under another root, in union order
+    private int historySize;
+    private int components;
+
+    public static void main(String[] args) {
+        RollbackUnionFind uf = new RollbackUnionFind(5);
+        uf.union(0, 1);
+        int snapshot = uf.snapshot();
+        uf.union(1, 2);
+        uf.union(3, 4);
+        System.out.println("Components: " + uf.componentCount() + ", 0 and 2 connected: " + uf.connected(0, 2));
+
+        uf.rollback(snapshot);
+        System.out.println("After rollback - components: " + uf.componentCount() + ", 0 and 2 connected: " + uf.connected(0, 2)
+                + ", 0 and 1 connected: " + uf.connected(0, 1));
+    }
+
+    /**
+     * Creates a union-find over nodes 0..totalNodes-1 whose unions can be undone in reverse order.
+     *
+     * Overview:
+     * `UnionFind` cannot take a union back, so answering connectivity over a window of time means rebuilding it.
+     * This variant records every successful union on a stack: snapshot() returns the current stack height, and
+     * rollback(snapshot) undoes every union made since, newest first. It is the building block of offline
+     * dynamic connectivity (see `OfflineDynamicConnectivity`).
+     *
+     * Intuition:
+     * - A union only changes two cells: parent[] of the smaller root and size[] of the larger root. Remembering the
+     *   smaller root is enough to undo it, since its parent is the larger root and its own size is unchanged.
+     * - There is no path compression, because compression rewrites many parent pointers that would all have to be
+     *   recorded. Union by size alone keeps every tree O(log n) deep, so find stays O(log n) worst case.
+     *
+     * Data Structures Used:
+     * - parent[] and size[]: union-find with union by size
+     * - history[]: stack of linked roots; at most n - 1 unions can succeed, so it never grows
+     *
+     * Time Complexity: O(log n) per find / union, O(1) per undone union.
+     * Space Complexity: O(n).
+     *
+     * Limitations:
+     * - Rollback is stack-like: a snapshot can only be rolled back to while no older snapshot has been rolled back past.
+     *
+     * @param totalNodes the total number of nodes
+     */
+    public RollbackUnionFind(int totalNodes) {
+        parent = new int[totalNodes];
+        size = new int[totalNodes];
+        history = new int[Math.max(0, totalNodes - 1)];
+        for (int i = 0; i < totalNodes; i++) {
+            parent[i] = i;
+            size[i] = 1;
+        }
+        components = totalNodes;
+    }
+
+    /**
+     * Finds the representative of the set containing node. Does not modify the structure.
+     *
+     * @param node the node to find the representative of
+     * @return the representative of the set
+     */
+    public int find(int node) {
+        while (parent[node] != node) {
+            node = parent[node];
+        }
+        return node;
+    }
+
+    /**
+     * Unions the sets containing nodes u and v using union by size, and records the union for rollback.
+     *
+     * @param u the first node
+     * @param v the second node
+     * @return true if two different sets were merged, false if u and v were already in the same set
+     */
+    public boolean union(int u, int v) {
+        u = find(u);
+        v = find(v);
+        if (u == v) return false;
+        if (size[u] < size[v]) {
+            int tmp = u;
+            u = v;
+            v = tmp;
+        }
+        parent[v] = u;
+        size[u] += size[v];
+        history[historySize++] = v;
+        components--;
+        return true;
+    }
+
+    /**
+     * @return a marker for the current state, to be passed to rollback
+     */
+    public int snapshot() {
+        return historySize;
+    }
+
+    /**
+     * Undoes every union made after the given snapshot was taken, newest first.
+     *
+     * @param snapshot a value previously returned by snapshot()
+     */
+    public void rollback(int snapshot) {
+        if (snapshot < 0 || snapshot > historySize) {
+            throw new IllegalArgumentException("Invalid snapshot " + snapshot + ", current history size " + historySize);
+        }
+        while (historySize > snapshot) {
+            int child = history[--historySize];
+            size[parent[child]] -= size[child];
+            parent[child] = child;
+            components++;
+        }
+    }
+
+    /**
+     * @return true if u and v are in the same set
+     */
+    public boolean connected(int u, int v) {
+        return find(u) == find(v);
+    }
+
+    /**
+     * @return the number of nodes in the set containing node
+     */
+    public int size(int node) {
+        return size[find(node)];
+    }
+
+    /**
+     * @return the number of disjoint sets
+     */
+    public int componentCount() {
+        return components;
+    }
+}
@@ -0,0 +1,253 @@
+package graph.unionFind;
+
+import java.util.Arrays;
+
+public class SparseUnionFind {
+
+    private static final int EMPTY = -1;
+
+    // Open-addressing hash map from id to slot: linear probing, capacity is a power of two, at most half full
+    private long[] tableKeys;
+    private int[] tableSlots; // EMPTY for a free table cell
+    private int mask;
+
+    // Per slot, dense 0..slotCount-1
+    private long[] ids;
+    private int[] parent;
+    private int[] size;
+    private int[] next;       // circular list of the members of each set
+    private int slotCount;
+    private int components;
+
+    public static void main(String[] args) {
+        SparseUnionFind uf = new SparseUnionFind();
+
+        // Records sharing a key are duplicates of the same entity; ids are sparse and arrive over time
+        long[][] duplicates = {{9_000_000_001L, 42L}, {42L, -7L}, {1L << 40, 123_456_789_012L}, {55L, 55L}};
+        for (long[] pair : duplicates) {
+            uf.union(pair[0], pair[1]);
+        }
+        System.out.println("Ids: " + uf.idCount() + ", entities: " + uf.componentCount());
+        System.out.println("9000000001 and -7 are the same entity: " + uf.connected(9_000_000_001L, -7L));
+        System.out.println("Members of the set of 42: " + Arrays.toString(uf.members(42L)));
+    }
+
+    /**
+     * Creates an empty union-find over arbitrary 64-bit ids.
+     */
+    public SparseUnionFind() {
+        this(16);
+    }
+
+    /**
+     * Creates an empty union-find over arbitrary 64-bit ids, sized for the expected number of distinct ids.
+     *
+     * Overview:
+     * `UnionFind` and `DisjointSetUnionFind` need dense ids 0..n-1 fixed at construction. Record ids in practice are
+     * sparse 64-bit values that show up over time, and densifying them first costs an extra pass and a boxed
+     * HashMap<Long, Integer>. This version assigns every new id the next dense slot on first sight, through a primitive
+     * open-addressing hash map (long keys, int values, no boxing), and grows all arrays by doubling.
+     *
+     * Intuition:
+     * - Ids are only touched at the API boundary: the union-find itself runs on dense int slots with path halving and
+     *   union by size, exactly like `UnionFind`.
+     * - Members of each set form a circular singly linked list in next[]. Two disjoint circular lists are spliced into
+     *   one by swapping the next pointers of one node from each, so union stays O(1) and enumerating a set costs
+     *   O(size of the set) instead of a scan over all ids.
+     *
+     * Data Structures Used:
+     * - tableKeys[] / tableSlots[]: linear-probing hash map, load factor at most 1/2, keys scrambled with the
+     *   MurmurHash3 finalizer so clustered ids spread out
+     * - ids[], parent[], size[], next[]: per-slot arrays, grown by doubling
+     *
+     * Time Complexity: O(1) expected per id lookup, plus O(α(n)) amortized per find / union.
+     * Space Complexity: O(n) for n distinct ids.
+     *
+     * @param expectedIds the expected number of distinct ids
+     */
+    public SparseUnionFind(int expectedIds) {
+        int slots = Math.max(16, expectedIds);
+        ids = new long[slots];
+        parent = new int[slots];
+        size = new int[slots];
+        next = new int[slots];
+        int tableSize = Integer.highestOneBit(Math.max(16, expectedIds) * 2 - 1) << 1;
+        tableKeys = new long[tableSize];
+        tableSlots = new int[tableSize];
+        Arrays.fill(tableSlots, EMPTY);
+        mask = tableSize - 1;
+    }
+
+    /**
+     * Registers id as a set of its own if it has not been seen before.
+     *
+     * @return true if id was new
+     */
+    public boolean add(long id) {
+        int before = slotCount;
+        slotOf(id);
+        return slotCount != before;
+    }
+
+    /**
+     * Finds the representative id of the set containing id. An unseen id is its own representative and is not added.
+     *
+     * @param id the id to find the representative of
+     * @return the representative id
+     */
+    public long find(long id) {
+        int slot = lookup(id);
+        return slot == EMPTY ? id : ids[findSlot(slot)];
+    }
+
+    /**
+     * Unions the sets containing ids a and b, adding either id if it is new.
+     *
+     * @return true if two different sets were merged, false if a and b were already in the same set
+     */
+    public boolean union(long a, long b) {
+        int u = findSlot(slotOf(a));
+        int v = findSlot(slotOf(b));
+        if (u == v) return false;
+        if (size[u] < size[v]) {
+            int tmp = u;
+            u = v;
+            v = tmp;
+        }
+        parent[v] = u;
+        size[u] += size[v];
+        // Splice the two circular member lists into one
+        int tmp = next[u];
+        next[u] = next[v];
+        next[v] = tmp;
+        components--;
+        return true;
+    }
+
+    /**
+     * @return true if a and b are the same id or were unioned, directly or indirectly
+     */
+    public boolean connected(long a, long b) {
+        if (a == b) return true;
+        int u = lookup(a), v = lookup(b);
+        return u != EMPTY && v != EMPTY && findSlot(u) == findSlot(v);
+    }
+
+    /**
+     * @return the number of ids in the set containing id (1 for an unseen id)
+     */
+    public int size(long id) {
+        int slot = lookup(id);
+        return slot == EMPTY ? 1 : size[findSlot(slot)];
+    }
+
+    /**
+     * Lists the ids in the set containing id, in O(size of the set).
+     *
+     * @return the members of the set, starting with id itself
+     */
+    public long[] members(long id) {
+        int start = lookup(id);
+        if (start == EMPTY) return new long[]{id};
+        long[] result = new long[size[findSlot(start)]];
+        int count = 0;
+        int slot = start;
+        do {
+            result[count++] = ids[slot];
+            slot = next[slot];
+        } while (slot != start);
+        return result;
+    }
+
+    /**
+     * @return the number of distinct ids seen so far
+     */
+    public int idCount() {
+        return slotCount;
+    }
+
+    /**
+     * @return the number of disjoint sets among the ids seen so far
+     */
+    public int componentCount() {
+        return components;
+    }
+
+    private int findSlot(int slot) {
+        while (parent[slot] != slot) {
+            parent[slot] = parent[parent[slot]]; // Path halving
+            slot = parent[slot];
+        }
+        return slot;
+    }
+
+    /**
+     * @return the slot of id, or EMPTY if id has not been seen
+     */
+    private int lookup(long id) {
+        int cell = hash(id) & mask;
+        while (tableSlots[cell] != EMPTY) {
+            if (tableKeys[cell] == id) return tableSlots[cell];
+            cell = (cell + 1) & mask;
+        }
+        return EMPTY;
+    }
+
+    /**
+     * @return the slot of id, assigning the next free slot if id has not been seen
+     */
+    private int slotOf(long id) {
+        int cell = hash(id) & mask;
+        while (tableSlots[cell] != EMPTY) {
+            if (tableKeys[cell] == id) return tableSlots[cell];
+            cell = (cell + 1) & mask;
+        }
+
+        if (slotCount == ids.length) {
+            int capacity = slotCount << 1;
+            ids = Arrays.copyOf(ids, capacity);
+            parent = Arrays.copyOf(parent, capacity);
+            size = Arrays.copyOf(size, capacity);
+            next = Arrays.copyOf(next, capacity);
+        }
+        int slot = slotCount++;
+        ids[slot] = id;
+        parent[slot] = slot;
+        size[slot] = 1;
+        next[slot] = slot;
+        components++;
+
+        tableKeys[cell] = id;
+        tableSlots[cell] = slot;
+        if (2 * slotCount > tableSlots.length) rehash();
+        return slot;
+    }
+
+    private void rehash() {
+        int tableSize = tableSlots.length << 1;
+        tableKeys = new long[tableSize];
+        tableSlots = new int[tableSize];
+        Arrays.fill(tableSlots, EMPTY);
+        mask = tableSize - 1;
+        for (int slot = 0; slot < slotCount; slot++) {
+            int cell = hash(ids[slot]) & mask;
+            while (tableSlots[cell] != EMPTY) {
+                cell = (cell + 1) & mask;
+            }
+            tableKeys[cell] = ids[slot];
+            tableSlots[cell] = slot;
+        }
+    }
+
+    /**
+     * MurmurHash3 64-bit finalizer, folded to an int.
+     */
+    private static int hash(long id) {
+        id ^= id >>> 33;
+        id *= 0xff51afd7ed558ccdL;
+        id ^= id >>> 33;
+        id *= 0xc4ceb93e53fe1a85L;
+        id ^= id >>> 33;
+        return (int) id;
+    }
+}
@@ -0,0 +1,197 @@
+package graph.unionFind;
+
+import java.util.Arrays;
+
+public class UnionFind {
+
+    private final boolean packed;
+    private final int[] parent; // standard layout: parent pointers, roots point to themselves
+    private final int[] size;   // standard layout: set size, valid for roots only
+    private final int[] data;   // packed layout: parent pointer, or -(set size) for roots
+    private int components;
+
+    public static void main(String[] args) {
+        int totalNodes = 7;
+
+        UnionFind uf = new UnionFind(totalNodes);
+        uf.union(0, 1);
+        uf.union(1, 2);
+        uf.union(3, 4);
+        uf.union(5, 6);
+        System.out.println("Components: " + uf.componentCount() + ", size of set of 2: " + uf.size(2));
+
+        // Same unions in bulk, on the packed single-array layout
+        UnionFind packed = UnionFind.packed(totalNodes);
+        packed.unionAll(new int[]{0, 1, 3, 5, 3}, new int[]{1, 2, 4, 6, 5});
+        System.out.println("Components: " + packed.componentCount() + ", 4 and 6 connected: " + packed.connected(4, 6));
+    }
+
+    /**
+     * Creates a union-find over nodes 0..totalNodes-1, each in its own set, using separate parent[] and size[] arrays.
+     *
+     * Overview:
+     * This is the shared Disjoint Set Union used by the MST algorithms (`Kruskal`, `KruskalRadix`, `FilterKruskal`,
+     * `ExternalKruskal`) and the cses solutions, replacing their private copies. `DisjointSetUnionFind` stays as the
+     * step-by-step teaching version that contrasts union by rank with union by size.
+     *
+     * Intuition:
+     * - Iterative path halving: while walking up, every visited node is pointed at its grandparent. This halves the
+     *   path in one pass with no recursion and no second pass, and gives the same O(α(n)) amortized bound as full
+     *   path compression.
+     * - Union by size: the smaller set is hung under the root of the larger one, so trees stay O(log n) deep
+     *   even before any halving happens.
+     *
+     * Layouts:
+     * - Standard: parent[] and size[] arrays.
+     * - Packed (see packed()): a single int[] where data[x] >= 0 is the parent of x and data[x] < 0 marks a root
+     *   whose set has -data[x] nodes. Half the memory, and a find touches only one array.
+     *
+     * Time Complexity: O(α(n)) amortized per operation, where α is the inverse Ackermann function.
+     * Space Complexity: O(n).
+     *
+     * @param totalNodes the total number of nodes
+     */
+    public UnionFind(int totalNodes) {
+        this(totalNodes, false);
+    }
+
+    private UnionFind(int totalNodes, boolean packed) {
+        this.packed = packed;
+        this.components = totalNodes;
+        if (packed) {
+            this.data = new int[totalNodes];
+            Arrays.fill(data, -1);
+            this.parent = null;
+            this.size = null;
+        } else {
+            this.data = null;
+            this.parent = new int[totalNodes];
+            this.size = new int[totalNodes];
+            for (int i = 0; i < totalNodes; i++) {
+                parent[i] = i;
+                size[i] = 1;
+            }
+        }
+    }
+
+    /**
+     * Creates a union-find that stores parents and set sizes in a single int[] (negative values = set size of a root).
+     *
+     * @param totalNodes the total number of nodes
+     * @return the packed union-find
+     */
+    public static UnionFind packed(int totalNodes) {
+        return new UnionFind(totalNodes, true);
+    }
+
+    /**
+     * Finds the representative (root) of the set containing node, halving the path on the way.
+     *
+     * @param node the node to find the representative of
+     * @return the representative of the set
+     */
+    public int find(int node) {
+        if (packed) {
+            while (data[node] >= 0) {
+                int p = data[node];
+                int grandParent = data[p];
+                if (grandParent < 0) return p;
+                data[node] = grandParent; // Path halving
+                node = grandParent;
+            }
+            return node;
+        }
+        while (parent[node] != node) {
+            parent[node] = parent[parent[node]]; // Path halving
+            node = parent[node];
+        }
+        return node;
+    }
+
+    /**
+     * Finds the representative without modifying the structure.
+     * Safe to call from several threads at once as long as no thread is calling find or union.
+     *
+     * @param node the node to find the representative of
+     * @return the representative of the set
+     */
+    public int findWithoutCompression(int node) {
+        if (packed) {
+            while (data[node] >= 0) node = data[node];
+            return node;
+        }
+        while (parent[node] != node) node = parent[node];
+        return node;
+    }
+
+    /**
+     * Unions the sets containing nodes u and v using union by size.
+     *
+     * @param u the first node
+     * @param v the second node
+     * @return true if two different sets were merged, false if u and v were already in the same set
+     */
+    public boolean union(int u, int v) {
+        u = find(u);
+        v = find(v);
+        if (u == v) return false;
+
+        if (packed) {
+            // Sizes are stored negated, so the larger set has the smaller value
+            if (data[u] > data[v]) {
+                int tmp = u;
+                u = v;
+                v = tmp;
+            }
+            data[u] += data[v];
+            data[v] = u;
+        } else {
+            if (size[u] < size[v]) {
+                int tmp = u;
+                u = v;
+                v = tmp;
+            }
+            parent[v] = u;
+            size[u] += size[v];
+        }
+        components--;
+        return true;
+    }
+
+    /**
+     * Unions u[i] with v[i] for every i.
+     *
+     * @param u the first node of each pair
+     * @param v the second node of each pair
+     * @return the number of unions that merged two different sets
+     */
+    public int unionAll(int[] u, int[] v) {
+        int merged = 0;
+        for (int i = 0; i < u.length; i++) {
+            if (union(u[i], v[i])) merged++;
+        }
+        return merged;
+    }
+
+    /**
+     * @return true if u and v are in the same set
+     */
+    public boolean connected(int u, int v) {
+        return find(u) == find(v);
+    }
+
+    /**
+     * @return the number of nodes in the set containing node
+     */
+    public int size(int node) {
+        int root = find(node);
+        return packed ? -data[root] : size[root];
+    }
+
+    /**
+     * @return the number of disjoint sets
+     */
+    public int componentCount() {
+        return components;
+    }
+}
@@ -0,0 +1,133 @@
+package graph.unionFind;
+
+public class WeightedUnionFind {
+
+    private final int[] parent;
+    private final int[] size;
+    private final long[] offset; // value[node] - value[parent[node]]
+    private int constraintCount;
+    private int firstConflict = -1;
+
+    public static void main(String[] args) {
+        // Constraints value[v] - value[u] = d, e.g. "v is d units taller than u"
+        int[][] constraints = {{0, 1, 5}, {1, 2, 3}, {3, 4, -2}, {2, 4, 1}, {0, 3, 9}, {0, 4, 9}};
+        WeightedUnionFind uf = new WeightedUnionFind(5);
+        for (int[] c : constraints) {
+            boolean ok = uf.union(c[0], c[1], c[2]);
+            System.out.println("value[" + c[1] + "] - value[" + c[0] + "] = " + c[2] + (ok ? "" : "  <- contradicts earlier constraints"));
+        }
+        System.out.println("First conflicting constraint: #" + uf.firstConflict());
+        System.out.println("value[3] - value[0] = " + uf.diff(0, 3));
+    }
+
+    /**
+     * Union-find that maintains relative offsets between nodes: union(u, v, d) records value[v] - value[u] = d, and
+     * diff(u, v) answers value[v] - value[u] for any two connected nodes in near-constant time.
+     *
+     * Overview:
+     * This is the general form of `ParityUnionFind`: instead of a side bit, every node stores its offset to its parent,
+     * and the offset of a node to its root is the sum along the path. A new constraint between two sets fixes the
+     * offset between their roots; a constraint inside one set is either implied by the earlier ones or contradicts them.
+     *
+     * Intuition:
+     * With p(x) = value[x] - value[root(x)], the constraint value[v] - value[u] = d between different roots ru, rv gives
+     * value[rv] - value[ru] = d + p(u) - p(v), which is the offset stored on rv when it is hung under ru.
+     *
+     * Data Structures Used:
+     * - parent[] and size[]: union-find with union by size
+     * - offset[]: value of each node minus the value of its parent
+     * - find compresses the path in two iterative passes, rewriting each offset to be relative to the root
+     *
+     * Time Complexity: O(α(V)) amortized per operation.
+     * Space Complexity: O(V).
+     * Edge Cases:
+     * - Offsets are longs and are not checked for overflow.
+     * - Contradicting constraints leave the structure unchanged.
+     *
+     * @param totalNodes the total number of nodes
+     */
+    public WeightedUnionFind(int totalNodes) {
+        parent = new int[totalNodes];
+        size = new int[totalNodes];
+        offset = new long[totalNodes];
+        for (int i = 0; i < totalNodes; i++) {
+            parent[i] = i;
+            size[i] = 1;
+        }
+    }
+
+    /**
+     * Records the constraint value[v] - value[u] = d. Constraints are numbered in call order starting at 0.
+     *
+     * @return false if the constraint contradicts the earlier ones, true otherwise
+     */
+    public boolean union(int u, int v, long d) {
+        int id = constraintCount++;
+        int ru = find(u), rv = find(v);
+        long pu = offset[u], pv = offset[v]; // offsets to the roots, valid after find
+
+        if (ru == rv) {
+            if (pv - pu == d) return true;
+            if (firstConflict == -1) firstConflict = id;
+            return false;
+        }
+        long rootOffset = d + pu - pv; // value[rv] - value[ru]
+        if (size[ru] < size[rv]) {
+            int tmp = ru;
+            ru = rv;
+            rv = tmp;
+            rootOffset = -rootOffset;
+        }
+        parent[rv] = ru;
+        offset[rv] = rootOffset;
+        size[ru] += size[rv];
+        return true;
+    }
+
+    /**
+     * @return value[v] - value[u]
+     * @throws IllegalArgumentException if u and v are not connected, so their difference is unknown
+     */
+    public long diff(int u, int v) {
+        if (find(u) != find(v)) {
+            throw new IllegalArgumentException("Nodes " + u + " and " + v + " are not connected");
+        }
+        return offset[v] - offset[u];
+    }
+
+    /**
+     * @return true if u and v are connected, i.e. diff(u, v) is determined
+     */
+    public boolean connected(int u, int v) {
+        return find(u) == find(v);
+    }
+
+    /**
+     * @return the id of the first constraint that contradicted the earlier ones, or -1 if all were consistent
+     */
+    public int firstConflict() {
+        return firstConflict;
+    }
+
+    /**
+     * Finds the root of node and compresses the path. Afterwards offset[node] is value[node] - value[root].
+     */
+    private int find(int node) {
+        int root = node;
+        long toRoot = 0;
+        while (parent[root] != root) {
+            toRoot += offset[root];
+            root = parent[root];
+        }
+        // Second pass: hang every node of the path directly under the root
+        while (node != root) {
+            int next = parent[node];
+            long own = offset[node];
+            parent[node] = root;
+            offset[node] = toRoot;
+            toRoot -= own;
+            node = next;
+        }
+        return root;
+    }
+}